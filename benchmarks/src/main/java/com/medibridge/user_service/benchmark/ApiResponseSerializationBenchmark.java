@@ -0,0 +1,149 @@
+package com.medibridge.user_service.benchmark;
+
+import com.medibridge.user_service.config.JacksonConfig;
+import com.medibridge.user_service.dto.DoctorProfileDTO;
+import com.medibridge.user_service.dto.response.ApiResponse;
+import com.medibridge.user_service.dto.response.UserResponseDTO;
+import com.medibridge.user_service.entity.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures nanoseconds per serialised ApiResponse for the main DTOs; bytes per
+ * response are printed once per trial.
+ *
+ * Compares the stock mapper against the tuned one from {@link JacksonConfig},
+ * and a per-call mapper write against a pre-built ObjectWriter for the response type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"default", "tuned"})
+    private String mapper;
+
+    @Param({"1", "100"})
+    private int users;
+
+    private JsonMapper jsonMapper;
+    private ObjectWriter userWriter;
+    private ObjectWriter userListWriter;
+    private ObjectWriter doctorProfileWriter;
+
+    private ApiResponse<UserResponseDTO> singleUser;
+    private ApiResponse<List<UserResponseDTO>> userList;
+    private ApiResponse<DoctorProfileDTO> doctorProfile;
+
+    @Setup
+    public void setUp() {
+        JsonMapper.Builder builder = JsonMapper.builder();
+        if ("tuned".equals(mapper)) {
+            JacksonConfig.tune(builder);
+        }
+        jsonMapper = builder.build();
+        userWriter = jsonMapper.writerFor(new TypeReference<ApiResponse<UserResponseDTO>>() { });
+        userListWriter = jsonMapper.writerFor(new TypeReference<ApiResponse<List<UserResponseDTO>>>() { });
+        doctorProfileWriter = jsonMapper.writerFor(new TypeReference<ApiResponse<DoctorProfileDTO>>() { });
+
+        List<UserResponseDTO> list = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            list.add(user(i));
+        }
+        singleUser = ApiResponse.success(list.get(0), "User fetched successfully");
+        userList = ApiResponse.success(list, "All users fetched successfully");
+        doctorProfile = ApiResponse.success(doctorProfile(), "Doctor profile details retrieved");
+
+        // Payload sizes are deterministic, so report bytes per response once per trial
+        System.out.printf("bytes/response: singleUser=%d userList=%d doctorProfile=%d%n",
+                userWriter.writeValueAsBytes(singleUser).length,
+                userListWriter.writeValueAsBytes(userList).length,
+                doctorProfileWriter.writeValueAsBytes(doctorProfile).length);
+    }
+
+    @Benchmark
+    public byte[] singleUserMapper() {
+        return jsonMapper.writeValueAsBytes(singleUser);
+    }
+
+    @Benchmark
+    public byte[] singleUserWriter() {
+        return userWriter.writeValueAsBytes(singleUser);
+    }
+
+    @Benchmark
+    public byte[] userListMapper() {
+        return jsonMapper.writeValueAsBytes(userList);
+    }
+
+    @Benchmark
+    public byte[] userListWriter() {
+        return userListWriter.writeValueAsBytes(userList);
+    }
+
+    @Benchmark
+    public byte[] doctorProfileWriter() {
+        return doctorProfileWriter.writeValueAsBytes(doctorProfile);
+    }
+
+    @Benchmark
+    public ApiResponse<UserResponseDTO> buildResponse() {
+        return ApiResponse.success(singleUser.getData(), "User fetched successfully");
+    }
+
+    private static UserResponseDTO user(int i) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        return UserResponseDTO.builder()
+                .id(UUID.nameUUIDFromBytes(("user-" + i).getBytes()))
+                .username("user" + i)
+                .email("user" + i + "@medibridge.test")
+                .fullName("Test User " + i)
+                .phoneNumber("+94770000" + String.format("%03d", i % 1000))
+                .role(i % 2 == 0 ? Role.PATIENT : Role.DOCTOR)
+                .isActive(true)
+                .isLocked(false)
+                .lastLoginAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static DoctorProfileDTO doctorProfile() {
+        DoctorProfileDTO dto = new DoctorProfileDTO();
+        dto.setFirstName("Jane");
+        dto.setLastName("Perera");
+        dto.setLicenseNumber("SLMC-12345");
+        dto.setSpecialization("Cardiology");
+        dto.setDepartment("Cardiology");
+        dto.setQualifications(List.of("MBBS", "MD"));
+        dto.setClinicAddress("12 Galle Road, Colombo 03");
+        dto.setConsultationFee(2500.0);
+        dto.setYearsOfExperience(12L);
+        dto.setLanguages(List.of("English", "Sinhala", "Tamil"));
+        dto.setIsAcceptingNewPatients(true);
+        dto.setAverageRating(4.7);
+        dto.setTotalConsultations(1520);
+        return dto;
+    }
+}
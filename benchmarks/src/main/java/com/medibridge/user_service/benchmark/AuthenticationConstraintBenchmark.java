@@ -0,0 +1,56 @@
+package com.medibridge.user_service.benchmark;
+
+import com.medibridge.user_service.exception.BusinessLogicException;
+import com.medibridge.user_service.service.AuthenticationConstraintService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration-time checks in {@link AuthenticationConstraintService}, for accepted input and
+ * for a rejected password (exception path). Logging below ERROR is switched off in logback.xml,
+ * so the rejected case measures the level check but no appender I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthenticationConstraintBenchmark {
+
+    private final AuthenticationConstraintService service = new AuthenticationConstraintService();
+
+    @Benchmark
+    public void validateUsername() {
+        service.validateUsername("dr.jane_perera");
+    }
+
+    @Benchmark
+    public void validateEmail() {
+        service.validateEmail("jane.perera+clinic@medibridge.test");
+    }
+
+    @Benchmark
+    public void validatePassword() {
+        service.validatePassword("Str0ng!Passw0rd");
+    }
+
+    @Benchmark
+    public String rejectPassword() {
+        try {
+            service.validatePassword("passwordwithoutdigits");
+            return null;
+        } catch (BusinessLogicException e) {
+            return e.getErrorCode();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.medibridge.user_service.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the standard JMH command line and, unless -rf/-rff
+ * are given, writes JSON results to jmh-results/yyyyMMdd-HHmmss.json so successive runs
+ * can be kept side by side and compared.
+ */
+public final class BenchmarkMain {
+
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams()
+                || cli.shouldListProfilers() || cli.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (!cli.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            Path results = Path.of("jmh-results");
+            Files.createDirectories(results);
+            String extension = cli.getResultFormat().orElse(ResultFormatType.JSON).name().toLowerCase();
+            options.result(results.resolve(LocalDateTime.now().format(RUN_ID) + "." + extension).toString());
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package com.medibridge.user_service.benchmark;
+
+import com.medibridge.user_service.validation.CredentialRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CredentialRules} against the String.matches calls it replaced. Run with {@code -prof gc}:
+ * the CredentialRules benchmarks should report gc.alloc.rate.norm of ~0 B/op, the regex ones
+ * allocate a Pattern (and Matcher) per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CredentialRulesBenchmark {
+
+    // Fields rather than constants, so the JIT cannot fold the checks away
+    private String password = "Str0ng!Passw0rd";
+    private String email = "jane.perera+clinic@medibridge.test";
+    private String username = "dr.jane_perera";
+
+    @Benchmark
+    public int checkPassword() {
+        return CredentialRules.checkPassword(password);
+    }
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return CredentialRules.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean hasValidUsernameCharacters() {
+        return CredentialRules.hasValidUsernameCharacters(username);
+    }
+
+    @Benchmark
+    public boolean regexPassword() {
+        return password.matches(".*[A-Z].*")
+                & password.matches(".*[a-z].*")
+                & password.matches(".*[0-9].*")
+                & password.matches(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?].*");
+    }
+
+    @Benchmark
+    public boolean regexEmail() {
+        return email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
+    }
+
+    @Benchmark
+    public boolean regexUsername() {
+        return username.matches("^[a-zA-Z0-9._-]+$");
+    }
+}
@@ -0,0 +1,77 @@
+package com.medibridge.user_service.benchmark;
+
+import com.medibridge.user_service.Mapper.UserMapper;
+import com.medibridge.user_service.Mapper.UserMapperImpl;
+import com.medibridge.user_service.dto.response.UserResponseDTO;
+import com.medibridge.user_service.entity.Role;
+import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.entity.PatientProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response DTO mapping, with and without the profile association populated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private User user;
+    private User userWithProfile;
+
+    @Setup
+    public void setUp() {
+        user = user();
+        userWithProfile = user();
+        PatientProfile profile = new PatientProfile();
+        profile.setId(UUID.randomUUID());
+        profile.setUser(userWithProfile);
+        userWithProfile.setProfile(profile);
+    }
+
+    @Benchmark
+    public UserResponseDTO userToUserResponseDTO() {
+        return userMapper.userToUserResponseDTO(user);
+    }
+
+    @Benchmark
+    public UserResponseDTO userWithProfileToDTO() {
+        return userMapper.userToUserResponseDTO(userWithProfile);
+    }
+
+    private static User user() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .username("jane.perera")
+                .email("jane.perera@medibridge.test")
+                .password("{noop}unused")
+                .fullName("Jane Perera")
+                .phoneNumber("+94770000001")
+                .role(Role.PATIENT)
+                .lastLoginAt(now)
+                .build();
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        user.setVersion(3L);
+        return user;
+    }
+}
@@ -0,0 +1,85 @@
+package com.medibridge.user_service.benchmark;
+
+import com.medibridge.user_service.dto.RegisterRequest;
+import com.medibridge.user_service.validation.ValidEmailValidator;
+import com.medibridge.user_service.validation.ValidPasswordValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation constraints used on registration requests.
+ *
+ * The direct benchmarks call the validators on valid input, where the context is never touched.
+ * The validateValue benchmarks go through Hibernate Validator, which is the path taken for
+ * request bodies and the only way to exercise the violation-building branch for weak passwords.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    private static final String STRONG_PASSWORD = "Str0ng!Passw0rd";
+    private static final String WEAK_PASSWORD = "password";
+    private static final String EMAIL = "jane.perera+clinic@medibridge.test";
+
+    private final ValidPasswordValidator passwordValidator = new ValidPasswordValidator();
+    private final ValidEmailValidator emailValidator = new ValidEmailValidator();
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean passwordDirect() {
+        return passwordValidator.isValid(STRONG_PASSWORD, null);
+    }
+
+    @Benchmark
+    public boolean emailDirect() {
+        return emailValidator.isValid(EMAIL, null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> passwordValidateValue() {
+        return validator.validateValue(RegisterRequest.class, "password", STRONG_PASSWORD);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> weakPasswordValidateValue() {
+        return validator.validateValue(RegisterRequest.class, "password", WEAK_PASSWORD);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> emailValidateValue() {
+        return validator.validateValue(RegisterRequest.class, "email", EMAIL);
+    }
+}
@@ -0,0 +1,78 @@
+package com.medibridge.user_service.loadtest;
+
+import tools.jackson.databind.JsonNode;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Compares a run against a stored baseline result file.
+ * A scenario regresses when p50, p99 or p99.9 latency grows, or throughput falls, by more than the
+ * tolerance, or when its error rate rises by more than one percentage point.
+ */
+public final class BaselineComparison {
+
+    private static final List<String> LATENCIES = List.of("p50", "p99", "p999");
+    private static final double ERROR_RATE_SLACK = 0.01;
+
+    private final JsonNode baseline;
+    private final double tolerancePercent;
+
+    public BaselineComparison(JsonNode baseline, double tolerancePercent) {
+        this.baseline = baseline;
+        this.tolerancePercent = tolerancePercent;
+    }
+
+    /**
+     * Print the comparison.
+     * @return number of regressed scenarios
+     */
+    public int compare(List<ScenarioResult> results, PrintStream out) {
+        int regressions = 0;
+        out.printf("%nBaseline %s (tolerance %.0f%%)%n", baseline.path("runId").asString(), tolerancePercent);
+        for (ScenarioResult result : results) {
+            String name = result.getScenario().displayName();
+            JsonNode previous = baseline.path("scenarios").path(name);
+            if (previous.isMissingNode()) {
+                out.printf("%-20s not in baseline%n", name);
+                continue;
+            }
+            boolean regressed = false;
+            StringBuilder line = new StringBuilder(String.format("%-20s", name));
+            for (String percentile : LATENCIES) {
+                double before = previous.path("latencyMs").path(percentile).asDouble();
+                double now = result.percentileMillis(percentileValue(percentile));
+                double change = percentChange(before, now);
+                regressed |= change > tolerancePercent;
+                line.append(String.format("  %s %+7.1f%%", percentile, change));
+            }
+            double throughputChange = percentChange(previous.path("throughput").asDouble(), result.getThroughput());
+            regressed |= throughputChange < -tolerancePercent;
+            line.append(String.format("  ok/s %+7.1f%%", throughputChange));
+
+            double errorRateDelta = result.getErrorRate() - previous.path("errorRate").asDouble();
+            regressed |= errorRateDelta > ERROR_RATE_SLACK;
+            line.append(String.format("  err %+6.2fpp", errorRateDelta * 100));
+
+            if (regressed) {
+                regressions++;
+                line.append("  REGRESSION");
+            }
+            out.println(line);
+        }
+        return regressions;
+    }
+
+    private static double percentileValue(String key) {
+        return switch (key) {
+            case "p50" -> 50;
+            case "p99" -> 99;
+            case "p999" -> 99.9;
+            default -> throw new IllegalArgumentException(key);
+        };
+    }
+
+    private static double percentChange(double before, double now) {
+        return before == 0 ? 0 : (now - before) / before * 100;
+    }
+}
@@ -0,0 +1,56 @@
+package com.medibridge.user_service.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import java.nio.file.Path;
+
+/**
+ * MariaDB server run from the mariaDB4j binaries, as the MySQL-compatible database for the service.
+ * With a data directory the seeded dataset survives between runs; otherwise a temporary one is used.
+ * mariaDB4j treats anything under java.io.tmpdir as temporary, so keep --data-dir outside it.
+ */
+public final class EmbeddedDatabase implements AutoCloseable {
+
+    private final DB db;
+
+    private EmbeddedDatabase(DB db) {
+        this.db = db;
+    }
+
+    public static EmbeddedDatabase start(Path dataDir) throws ManagedProcessException {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        if (dataDir != null) {
+            config.setDataDir(dataDir.toAbsolutePath().toString());
+            config.setDeletingTemporaryBaseAndDataDirsOnShutdown(false);
+        }
+        // mariadbd refuses to run as root unless told to
+        if ("root".equals(System.getProperty("user.name"))) {
+            config.addArg("--user=root");
+        }
+        config.addArg("--max-connections=500");
+        config.addArg("--innodb-buffer-pool-size=512M");
+        config.addArg("--innodb-flush-log-at-trx-commit=2");
+        // The single-table user_profiles exceeds MariaDB's strict inline row size check
+        config.addArg("--innodb-strict-mode=OFF");
+
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+        return new EmbeddedDatabase(db);
+    }
+
+    /**
+     * @return JDBC URL for the given schema, created on first connect
+     */
+    public String jdbcUrl(String schema) {
+        return "jdbc:mysql://localhost:" + db.getConfiguration().getPort() + "/" + schema
+                + "?createDatabaseIfNotExist=true&useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC";
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        db.stop();
+    }
+}
@@ -0,0 +1,85 @@
+package com.medibridge.user_service.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: requests are scheduled at a fixed rate regardless of how fast
+ * responses come back, each on its own virtual thread. When more than maxInFlight requests are
+ * outstanding, new ones are dropped and counted as errors instead of silently slowing the rate.
+ */
+public final class LoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ScenarioContext context;
+    private final double rate;
+    private final int maxInFlight;
+    private long nextSequence;
+
+    public LoadGenerator(ScenarioContext context, double rate, int maxInFlight) {
+        this.context = context;
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public ScenarioResult run(Scenario scenario, Duration duration) throws InterruptedException {
+        ScenarioResult result = new ScenarioResult(scenario);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * intervalNanos;
+                if (scheduled >= end) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    result.drop();
+                    continue;
+                }
+                // Sequences continue across runs so warm-up and measured registrations never collide
+                HttpRequest request = scenario.request(context, nextSequence++);
+                executor.execute(() -> {
+                    try {
+                        send(request, scheduled, result);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        result.finish(Duration.ofNanos(System.nanoTime() - start));
+        return result;
+    }
+
+    private void send(HttpRequest request, long scheduled, ScenarioResult result) {
+        int status;
+        try {
+            status = context.client().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = ScenarioResult.IO_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        result.record(status, System.nanoTime() - scheduled);
+    }
+}
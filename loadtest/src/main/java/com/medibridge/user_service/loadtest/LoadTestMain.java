@@ -0,0 +1,212 @@
+package com.medibridge.user_service.loadtest;
+
+import com.medibridge.user_service.UserServiceApplication;
+import com.medibridge.user_service.loadtest.dataset.DatasetGenerator;
+import com.medibridge.user_service.loadtest.dataset.JdbcDatasetSink;
+import com.medibridge.user_service.loadtest.dataset.SyntheticUsers;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test entry point.
+ *
+ * By default starts an embedded MariaDB, boots the service against it on a random port, seeds
+ * --users accounts and runs each scenario at --rate requests/second for --duration seconds after
+ * a --warmup. Results go to --output-dir as JSON plus one HdrHistogram .hgrm file per scenario;
+ * --baseline compares against an earlier result file and --save-baseline stores this one.
+ *
+ * Run platform and virtual threads back to back with --virtual-threads=false / true
+ * and the same seeded --data-dir to compare them.
+ *
+ * --max-error-rate fails the run (exit code 3) if any scenario has more errors, which makes a short
+ * low-rate run against --base-url a smoke test for a build, e.g. the native executable.
+ *
+ * {@code generate ...} as first argument runs the standalone {@link DatasetGenerator} instead.
+ */
+public final class LoadTestMain {
+
+    private static final String SCHEMA = "medibridge_loadtest";
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && "generate".equals(args[0])) {
+            DatasetGenerator.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        PrintStream out = System.out;
+
+        boolean embedded = options.getDbUrl() == null;
+        try (EmbeddedDatabase database = embedded ? EmbeddedDatabase.start(options.getDataDir()) : null) {
+            String jdbcUrl = embedded ? database.jdbcUrl(SCHEMA) : options.getDbUrl();
+            String dbUsername = embedded ? "root" : options.getDbUsername();
+            String dbPassword = embedded ? "" : options.getDbPassword();
+
+            ConfigurableApplicationContext application = null;
+            try {
+                URI baseUri;
+                if (options.getBaseUrl() == null) {
+                    application = boot(jdbcUrl, dbUsername, dbPassword, options);
+                    baseUri = URI.create("http://localhost:"
+                            + application.getEnvironment().getProperty("local.server.port") + "/");
+                } else {
+                    baseUri = URI.create(options.getBaseUrl().endsWith("/") ? options.getBaseUrl() : options.getBaseUrl() + "/");
+                }
+
+                SyntheticUsers synthetic = new SyntheticUsers(options.getSeed(), options.getUserRoleShare());
+                seed(synthetic, new JdbcDatasetSink(jdbcUrl, dbUsername, dbPassword), options, out);
+
+                int exitCode = run(baseUri, synthetic, options, out);
+                if (exitCode != 0) {
+                    System.exit(exitCode);
+                }
+            } finally {
+                if (application != null) {
+                    application.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Generate the dataset unless its last user is already present, e.g. in a reused --data-dir.
+     */
+    private static void seed(SyntheticUsers synthetic, JdbcDatasetSink sink, LoadTestOptions options,
+                             PrintStream out) throws Exception {
+        if (sink.containsUser(synthetic.id(options.getUsers() - 1L))) {
+            out.printf("Dataset: %d users already present (seed %d)%n", options.getUsers(), options.getSeed());
+            return;
+        }
+        out.printf("Dataset: generating %d users (seed %d)%n", options.getUsers(), options.getSeed());
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        new DatasetGenerator(synthetic, threads).generate(options.getUsers(), sink, out);
+    }
+
+    private static int run(URI baseUri, SyntheticUsers synthetic, LoadTestOptions options, PrintStream out)
+            throws Exception {
+        JsonMapper jsonMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ScenarioContext context = new ScenarioContext(client, baseUri, jsonMapper, synthetic, options.getUsers());
+        context.signIn(options.getTokenPool());
+
+        String runId = LocalDateTime.now().format(RUN_ID);
+        LoadGenerator generator = new LoadGenerator(context, options.getRate(), options.getMaxInFlight());
+        List<ScenarioResult> results = new ArrayList<>();
+        out.printf("%nRun %s against %s at %.0f req/s for %ds per scenario%n",
+                runId, baseUri, options.getRate(), options.getDuration().toSeconds());
+        for (Scenario scenario : options.getScenarios()) {
+            if (!options.getWarmup().isZero()) {
+                generator.run(scenario, options.getWarmup());
+            }
+            ScenarioResult result = generator.run(scenario, options.getDuration());
+            result.print(out);
+            results.add(result);
+        }
+
+        Path resultFile = write(runId, results, options, jsonMapper);
+        out.printf("%nResults written to %s%n", resultFile);
+
+        int regressions = 0;
+        if (options.getBaseline() != null) {
+            BaselineComparison comparison = new BaselineComparison(
+                    jsonMapper.readTree(options.getBaseline().toFile()), options.getTolerancePercent());
+            regressions = comparison.compare(results, out);
+        }
+        if (options.getSaveBaseline() != null) {
+            Files.copy(resultFile, options.getSaveBaseline(), StandardCopyOption.REPLACE_EXISTING);
+            out.printf("Baseline saved to %s%n", options.getSaveBaseline());
+        }
+        if (regressions > 0 && options.isFailOnRegression()) {
+            return 2;
+        }
+        return failedScenarios(results, options.getMaxErrorRatePercent(), out) > 0 ? 3 : 0;
+    }
+
+    /**
+     * Count scenarios above --max-error-rate, e.g. --max-error-rate=0 for a smoke run.
+     */
+    private static int failedScenarios(List<ScenarioResult> results, double maxErrorRatePercent, PrintStream out) {
+        if (maxErrorRatePercent < 0) {
+            return 0;
+        }
+        int failed = 0;
+        for (ScenarioResult result : results) {
+            double errorRatePercent = result.getErrorRate() * 100;
+            if (errorRatePercent > maxErrorRatePercent) {
+                out.printf("FAILED %s: error rate %.2f%% above %.2f%%%n",
+                        result.getScenario().displayName(), errorRatePercent, maxErrorRatePercent);
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    private static ConfigurableApplicationContext boot(String jdbcUrl, String username, String password,
+                                                       LoadTestOptions options) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", username);
+        properties.put("spring.datasource.password", password);
+        // Match production MySQL column types (e.g. binary(16) UUIDs) rather than MariaDB's native ones
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.MySQLDialect");
+        properties.put("spring.jpa.properties.jakarta.persistence.database-major-version", 8);
+        properties.put("spring.threads.virtual.enabled", options.isVirtualThreads());
+        properties.put("server.port", 0);
+        properties.put("eureka.client.enabled", false);
+        properties.put("logging.level.com.medibridge", "WARN");
+        properties.putAll(options.getAppProperties());
+
+        // Passed as command line arguments: default properties would lose to application.yml
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(UserServiceApplication.class).run(args);
+    }
+
+    private static Path write(String runId, List<ScenarioResult> results, LoadTestOptions options,
+                              JsonMapper jsonMapper) throws Exception {
+        Files.createDirectories(options.getOutputDir());
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        for (ScenarioResult result : results) {
+            scenarios.put(result.getScenario().displayName(), result.toMap());
+            Path hgrm = options.getOutputDir().resolve(runId + "-" + result.getScenario().displayName() + ".hgrm");
+            try (PrintStream file = new PrintStream(Files.newOutputStream(hgrm))) {
+                // Recorded in microseconds, reported in milliseconds
+                result.getHistogram().outputPercentileDistribution(file, 1000.0);
+            }
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runId", runId);
+        report.put("finishedAt", Instant.now().toString());
+        report.put("settings", options.describe());
+        report.put("scenarios", scenarios);
+
+        Path file = options.getOutputDir().resolve(runId + ".json");
+        jsonMapper.writeValue(file.toFile(), report);
+        return file;
+    }
+}
@@ -0,0 +1,216 @@
+package com.medibridge.user_service.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options of the load test, given as --name=value.
+ * Options prefixed with --app. are passed through to the booted service as Spring properties,
+ * e.g. --app.application.concurrency-limit.enabled=false.
+ */
+public final class LoadTestOptions {
+
+    private static final String APP_PREFIX = "app.";
+
+    private List<Scenario> scenarios = Arrays.asList(Scenario.values());
+    private int users = 100_000;
+    private long seed = 42;
+    private double userRoleShare = 0.1;
+    private double rate = 200;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+    private int maxInFlight = 1_000;
+    private int tokenPool = 200;
+    private boolean virtualThreads;
+    private Path dataDir;
+    private String baseUrl;
+    private String dbUrl;
+    private String dbUsername = "root";
+    private String dbPassword = "";
+    private Path outputDir = Path.of("loadtest-results");
+    private Path baseline;
+    private Path saveBaseline;
+    private double tolerancePercent = 10;
+    private boolean failOnRegression;
+    private double maxErrorRatePercent = -1;
+    private final Map<String, String> appProperties = new LinkedHashMap<>();
+
+    private LoadTestOptions() {
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg.substring(2) : arg.substring(2, eq);
+            String value = eq < 0 ? "true" : arg.substring(eq + 1);
+            if (name.startsWith(APP_PREFIX)) {
+                options.appProperties.put(name.substring(APP_PREFIX.length()), value);
+                continue;
+            }
+            switch (name) {
+                case "scenarios" -> options.scenarios = parseScenarios(value);
+                case "users" -> options.users = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "user-role-share" -> options.userRoleShare = Double.parseDouble(value);
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "duration" -> options.duration = Duration.ofSeconds(Long.parseLong(value));
+                case "warmup" -> options.warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "token-pool" -> options.tokenPool = Integer.parseInt(value);
+                case "virtual-threads" -> options.virtualThreads = Boolean.parseBoolean(value);
+                case "data-dir" -> options.dataDir = Path.of(value);
+                case "base-url" -> options.baseUrl = value;
+                case "db-url" -> options.dbUrl = value;
+                case "db-username" -> options.dbUsername = value;
+                case "db-password" -> options.dbPassword = value;
+                case "output-dir" -> options.outputDir = Path.of(value);
+                case "baseline" -> options.baseline = Path.of(value);
+                case "save-baseline" -> options.saveBaseline = Path.of(value);
+                case "tolerance" -> options.tolerancePercent = Double.parseDouble(value);
+                case "fail-on-regression" -> options.failOnRegression = Boolean.parseBoolean(value);
+                case "max-error-rate" -> options.maxErrorRatePercent = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        if (options.users < 1 || options.users > 1_000_000) {
+            throw new IllegalArgumentException("--users must be between 1 and 1000000");
+        }
+        if (options.rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        if (options.baseUrl != null && options.dbUrl == null) {
+            throw new IllegalArgumentException("--base-url needs --db-url to seed and look up test users");
+        }
+        return options;
+    }
+
+    private static List<Scenario> parseScenarios(String value) {
+        if ("all".equalsIgnoreCase(value)) {
+            return Arrays.asList(Scenario.values());
+        }
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : value.split(",")) {
+            scenarios.add(Scenario.valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_')));
+        }
+        return scenarios;
+    }
+
+    public List<Scenario> getScenarios() {
+        return scenarios;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getUserRoleShare() {
+        return userRoleShare;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getTokenPool() {
+        return tokenPool;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Path getDataDir() {
+        return dataDir;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getDbUrl() {
+        return dbUrl;
+    }
+
+    public String getDbUsername() {
+        return dbUsername;
+    }
+
+    public String getDbPassword() {
+        return dbPassword;
+    }
+
+    public Path getOutputDir() {
+        return outputDir;
+    }
+
+    public Path getBaseline() {
+        return baseline;
+    }
+
+    public Path getSaveBaseline() {
+        return saveBaseline;
+    }
+
+    public double getTolerancePercent() {
+        return tolerancePercent;
+    }
+
+    public boolean isFailOnRegression() {
+        return failOnRegression;
+    }
+
+    /**
+     * @return highest acceptable error rate of any scenario in percent, negative if unchecked
+     */
+    public double getMaxErrorRatePercent() {
+        return maxErrorRatePercent;
+    }
+
+    public Map<String, String> getAppProperties() {
+        return appProperties;
+    }
+
+    /**
+     * @return the settings that make two runs comparable, stored with the results
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("users", users);
+        settings.put("seed", seed);
+        settings.put("userRoleShare", userRoleShare);
+        settings.put("rate", rate);
+        settings.put("durationSeconds", duration.toSeconds());
+        settings.put("warmupSeconds", warmup.toSeconds());
+        settings.put("maxInFlight", maxInFlight);
+        settings.put("virtualThreads", virtualThreads);
+        settings.put("target", baseUrl != null ? baseUrl : "embedded");
+        settings.put("appProperties", appProperties);
+        return settings;
+    }
+}
@@ -0,0 +1,75 @@
+package com.medibridge.user_service.loadtest;
+
+import com.medibridge.user_service.loadtest.dataset.SyntheticUsers;
+
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Scripted traffic shapes. Each request is built independently so they can be issued at a fixed rate.
+ */
+public enum Scenario {
+
+    /** Sign-ins of random seeded users: BCrypt verification plus token issue. */
+    LOGIN_STORM {
+        @Override
+        HttpRequest request(ScenarioContext context, long sequence) {
+            String username = context.synthetic().username(context.randomSignInUser());
+            return context.post("/api/v1/users/auth/signin",
+                    Map.of("username", username, "password", SyntheticUsers.PASSWORD));
+        }
+    },
+
+    /** Access token renewal from the pool of signed-in patients. */
+    REFRESH_CHURN {
+        @Override
+        HttpRequest request(ScenarioContext context, long sequence) {
+            return context.post("/api/v1/users/auth/refresh-token",
+                    Map.of("refreshToken", context.randomPatientTokens().refreshToken()));
+        }
+    },
+
+    /** Profile reads of random users, JWT-authenticated. */
+    PROFILE_READ_HEAVY {
+        @Override
+        HttpRequest request(ScenarioContext context, long sequence) {
+            UUID id = context.synthetic().id(ThreadLocalRandom.current().nextInt(context.users()));
+            return context.get("/api/v1/users/patients/" + id,
+                    context.randomPatientTokens().accessToken());
+        }
+    },
+
+    /** Admin paging through users and doctors; mostly the first pages, sometimes deep ones. */
+    ADMIN_LISTING {
+        @Override
+        HttpRequest request(ScenarioContext context, long sequence) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int pages = Math.max(1, context.users() / 20);
+            int page = random.nextInt(10) == 0 ? random.nextInt(pages) : random.nextInt(Math.min(10, pages));
+            String resource = sequence % 4 == 0 ? "doctors" : "users";
+            return context.get("/api/v1/admin/" + resource + "?page=" + page + "&size=20", context.adminAccessToken());
+        }
+    },
+
+    /** New patient sign-ups with unique usernames. */
+    REGISTRATION_BURST {
+        @Override
+        HttpRequest request(ScenarioContext context, long sequence) {
+            String username = "lt_reg_" + context.runId() + "_" + sequence;
+            return context.post("/api/v1/users/auth/signup", Map.of(
+                    "username", username,
+                    "email", username + "@loadtest.medibridge.test",
+                    "password", SyntheticUsers.PASSWORD,
+                    "fullName", "Load Test " + username,
+                    "role", "PATIENT"));
+        }
+    };
+
+    abstract HttpRequest request(ScenarioContext context, long sequence);
+
+    public String displayName() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,119 @@
+package com.medibridge.user_service.loadtest;
+
+import com.medibridge.user_service.entity.Role;
+import com.medibridge.user_service.loadtest.dataset.SyntheticUsers;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shared state for scenarios: the HTTP client, the target, the synthetic dataset and tokens
+ * obtained up front for a pool of seeded patients and the seeded admin (user 0).
+ */
+public final class ScenarioContext {
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final JsonMapper jsonMapper;
+    private final SyntheticUsers synthetic;
+    private final int users;
+    private final String runId;
+    private final List<Tokens> patientTokens = new ArrayList<>();
+    private String adminAccessToken;
+
+    record Tokens(String accessToken, String refreshToken) {
+    }
+
+    ScenarioContext(HttpClient client, URI baseUri, JsonMapper jsonMapper, SyntheticUsers synthetic, int users) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.jsonMapper = jsonMapper;
+        this.synthetic = synthetic;
+        this.users = users;
+        this.runId = Long.toString(System.currentTimeMillis(), 36);
+    }
+
+    /**
+     * Sign in the admin and a pool of patients. Runs before any measurement.
+     */
+    void signIn(int tokenPool) throws IOException, InterruptedException {
+        adminAccessToken = signIn(synthetic.username(0)).accessToken();
+        for (int i = 1; patientTokens.size() < tokenPool && i < users; i++) {
+            if (synthetic.role(i) == Role.PATIENT && synthetic.canSignIn(i)) {
+                patientTokens.add(signIn(synthetic.username(i)));
+            }
+        }
+    }
+
+    private Tokens signIn(String username) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(post("/api/v1/users/auth/signin",
+                Map.of("username", username, "password", SyntheticUsers.PASSWORD)), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Sign-in failed for " + username + ": HTTP " + response.statusCode());
+        }
+        JsonNode data = jsonMapper.readTree(response.body()).path("data");
+        return new Tokens(data.path("accessToken").asString(), data.path("refreshToken").asString());
+    }
+
+    HttpClient client() {
+        return client;
+    }
+
+    int users() {
+        return users;
+    }
+
+    SyntheticUsers synthetic() {
+        return synthetic;
+    }
+
+    /**
+     * @return index of a random seeded user that is active and not locked
+     */
+    int randomSignInUser() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index;
+        do {
+            index = random.nextInt(users);
+        } while (!synthetic.canSignIn(index));
+        return index;
+    }
+
+    String runId() {
+        return runId;
+    }
+
+    String adminAccessToken() {
+        return adminAccessToken;
+    }
+
+    Tokens randomPatientTokens() {
+        return patientTokens.get(ThreadLocalRandom.current().nextInt(patientTokens.size()));
+    }
+
+    HttpRequest get(String path, String accessToken) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+    }
+
+    HttpRequest post(String path, Map<String, ?> body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+                .build();
+    }
+}
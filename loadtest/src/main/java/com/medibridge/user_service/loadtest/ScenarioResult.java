@@ -0,0 +1,125 @@
+package com.medibridge.user_service.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of one scenario run. Latencies are recorded in microseconds from each request's
+ * scheduled start, so time spent queued behind a slow server counts (no coordinated omission).
+ */
+public final class ScenarioResult {
+
+    /** Status bucket for requests that failed without an HTTP response. */
+    static final int IO_ERROR = -1;
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Scenario scenario;
+    private final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private Duration elapsed = Duration.ZERO;
+
+    ScenarioResult(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    void record(int status, long latencyNanos) {
+        histogram.recordValue(Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    void drop() {
+        dropped.increment();
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    public long getRequests() {
+        return histogram.getTotalCount();
+    }
+
+    public long getSuccesses() {
+        long successes = 0;
+        for (Map.Entry<Integer, LongAdder> entry : statusCounts.entrySet()) {
+            if (entry.getKey() >= 200 && entry.getKey() < 300) {
+                successes += entry.getValue().sum();
+            }
+        }
+        return successes;
+    }
+
+    /**
+     * @return non-2xx responses, I/O failures and requests dropped at the in-flight cap
+     */
+    public long getErrors() {
+        return getRequests() - getSuccesses() + dropped.sum();
+    }
+
+    public double getErrorRate() {
+        long attempted = getRequests() + dropped.sum();
+        return attempted == 0 ? 0 : (double) getErrors() / attempted;
+    }
+
+    /**
+     * @return successful responses per second
+     */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : getSuccesses() / seconds;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", histogram.getMean() / 1000.0);
+        latency.put("p50", percentileMillis(50));
+        latency.put("p90", percentileMillis(90));
+        latency.put("p99", percentileMillis(99));
+        latency.put("p999", percentileMillis(99.9));
+        latency.put("max", histogram.getMaxValue() / 1000.0);
+
+        Map<String, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((status, count) -> statuses.put(status == IO_ERROR ? "io-error" : status.toString(), count.sum()));
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("requests", getRequests());
+        map.put("errors", getErrors());
+        map.put("dropped", dropped.sum());
+        map.put("errorRate", getErrorRate());
+        map.put("throughput", getThroughput());
+        map.put("elapsedSeconds", elapsed.toMillis() / 1000.0);
+        map.put("latencyMs", latency);
+        map.put("statusCounts", statuses);
+        return map;
+    }
+
+    double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-20s %9d req %8.1f ok/s  err %6.2f%%  p50 %8.2f  p90 %8.2f  p99 %8.2f  p99.9 %8.2f  max %8.2f ms%n",
+                scenario.displayName(), getRequests(), getThroughput(), getErrorRate() * 100,
+                percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+                histogram.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,154 @@
+package com.medibridge.user_service.loadtest.dataset;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes one users-N.csv, user_profile_details-N.csv and user_profiles-N.csv per lane plus a load.sql with the matching
+ * LOAD DATA LOCAL INFILE statements, for datasets where even batched inserts are too slow.
+ * Files use MySQL's LOAD DATA defaults: \N for NULL, backslash escapes, double-quoted strings.
+ * UUIDs are written as hex and converted with UNHEX on load.
+ */
+public final class CsvDatasetSink implements DatasetSink {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final HexFormat HEX = HexFormat.of();
+    private static final Set<String> UUID_COLUMNS = Set.of("id", "user_id", "details_id");
+
+    private final Path directory;
+    private final AtomicInteger lanes = new AtomicInteger();
+
+    public CsvDatasetSink(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public Lane openLane(int lane) throws IOException {
+        lanes.accumulateAndGet(lane + 1, Math::max);
+        return new CsvLane(Files.newBufferedWriter(directory.resolve(usersFile(lane)), StandardCharsets.UTF_8),
+                Files.newBufferedWriter(directory.resolve(detailsFile(lane)), StandardCharsets.UTF_8),
+                Files.newBufferedWriter(directory.resolve(profilesFile(lane)), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write load.sql; run it with {@code mysql --local-infile=1 <schema> < load.sql} from this directory.
+     */
+    @Override
+    public void close() throws IOException {
+        List<String> statements = new ArrayList<>();
+        statements.add("SET foreign_key_checks = 0;");
+        statements.add("SET unique_checks = 0;");
+        for (int lane = 0; lane < lanes.get(); lane++) {
+            statements.add(load(usersFile(lane), "users", Arrays.stream(UserColumn.values()).map(column -> column.column).toList()));
+        }
+        for (int lane = 0; lane < lanes.get(); lane++) {
+            statements.add(load(detailsFile(lane), "user_profile_details", Arrays.stream(DetailColumn.values()).map(column -> column.column).toList()));
+        }
+        for (int lane = 0; lane < lanes.get(); lane++) {
+            statements.add(load(profilesFile(lane), "user_profiles", Arrays.stream(ProfileColumn.values()).map(column -> column.column).toList()));
+        }
+        statements.add("SET unique_checks = 1;");
+        statements.add("SET foreign_key_checks = 1;");
+        Files.write(directory.resolve("load.sql"), statements, StandardCharsets.UTF_8);
+    }
+
+    private static String load(String file, String table, List<String> columns) {
+        List<String> variables = columns.stream()
+                .map(column -> UUID_COLUMNS.contains(column) ? "@" + column : column)
+                .toList();
+        List<String> conversions = columns.stream()
+                .filter(UUID_COLUMNS::contains)
+                .map(column -> column + " = UNHEX(@" + column + ")")
+                .toList();
+        return "LOAD DATA LOCAL INFILE '" + file + "' IGNORE INTO TABLE " + table
+                + " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'"
+                + " (" + String.join(", ", variables) + ")"
+                + " SET " + String.join(", ", conversions) + ";";
+    }
+
+    private static String usersFile(int lane) {
+        return "users-" + lane + ".csv";
+    }
+
+    private static String detailsFile(int lane) {
+        return "user_profile_details-" + lane + ".csv";
+    }
+
+    private static String profilesFile(int lane) {
+        return "user_profiles-" + lane + ".csv";
+    }
+
+    private record CsvLane(Writer users, Writer details, Writer profiles) implements Lane {
+
+        @Override
+        public void write(List<Object[]> userRows, List<Object[]> detailRows, List<Object[]> profileRows)
+                throws IOException {
+            writeRows(users, userRows);
+            writeRows(details, detailRows);
+            writeRows(profiles, profileRows);
+        }
+
+        private static void writeRows(Writer out, List<Object[]> rows) throws IOException {
+            StringBuilder line = new StringBuilder(512);
+            for (Object[] row : rows) {
+                line.setLength(0);
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        line.append(',');
+                    }
+                    appendValue(line, row[i]);
+                }
+                line.append('\n');
+                out.append(line);
+            }
+        }
+
+        private static void appendValue(StringBuilder line, Object value) {
+            switch (value) {
+                case null -> line.append("\\N");
+                case Boolean flag -> line.append(flag ? '1' : '0');
+                case Number number -> line.append(number);
+                case UUID id -> line.append(HEX.toHexDigits(id.getMostSignificantBits()))
+                        .append(HEX.toHexDigits(id.getLeastSignificantBits()));
+                case LocalDateTime dateTime -> line.append(DATE_TIME.format(dateTime));
+                default -> {
+                    String text = value.toString();
+                    line.append('"');
+                    for (int i = 0; i < text.length(); i++) {
+                        char c = text.charAt(i);
+                        if (c == '"' || c == '\\') {
+                            line.append('\\');
+                        }
+                        line.append(c == '\n' ? ' ' : c);
+                    }
+                    line.append('"');
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                users.close();
+            } finally {
+                try {
+                    details.close();
+                } finally {
+                    profiles.close();
+                }
+            }
+        }
+    }
+}
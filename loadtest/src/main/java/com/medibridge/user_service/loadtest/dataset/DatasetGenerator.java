@@ -0,0 +1,134 @@
+package com.medibridge.user_service.loadtest.dataset;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates users 0 .. n-1 with their profiles in parallel. Threads claim fixed-size chunks of
+ * user indexes; since every row depends only on the seed and its index, the output is identical
+ * for any thread count, only the row order within files differs.
+ *
+ * Standalone: {@code java -jar loadtest.jar generate --users=10000000 --csv-dir=dataset}
+ * or {@code --jdbc-url=...} to insert directly.
+ */
+public final class DatasetGenerator {
+
+    static final int CHUNK_SIZE = 10_000;
+
+    private final SyntheticUsers synthetic;
+    private final int threads;
+
+    public DatasetGenerator(SyntheticUsers synthetic, int threads) {
+        this.synthetic = synthetic;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Generate users [0, users) into the sink.
+     */
+    public void generate(long users, DatasetSink sink, PrintStream progress) throws Exception {
+        String passwordHash = synthetic.passwordHash();
+        AtomicLong nextIndex = new AtomicLong();
+        AtomicLong done = new AtomicLong();
+        long start = System.nanoTime();
+        long reportEvery = Math.max(CHUNK_SIZE, users / 20);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int lane = 0; lane < threads; lane++) {
+                int laneId = lane;
+                futures.add(executor.submit(() -> {
+                    try (DatasetSink.Lane out = sink.openLane(laneId)) {
+                        List<Object[]> userRows = new ArrayList<>(CHUNK_SIZE);
+                        List<Object[]> profileRows = new ArrayList<>(CHUNK_SIZE);
+                        List<Object[]> detailRows = new ArrayList<>(CHUNK_SIZE);
+                        long from;
+                        while ((from = nextIndex.getAndAdd(CHUNK_SIZE)) < users) {
+                            long to = Math.min(users, from + CHUNK_SIZE);
+                            userRows.clear();
+                            profileRows.clear();
+                            detailRows.clear();
+                            for (long i = from; i < to; i++) {
+                                Object[] user = new Object[UserColumn.values().length];
+                                synthetic.fillUser(i, passwordHash, user);
+                                userRows.add(user);
+                                Object[] profile = new Object[ProfileColumn.values().length];
+                                Object[] details = new Object[DetailColumn.values().length];
+                                if (synthetic.fillProfile(i, profile, details)) {
+                                    detailRows.add(details);
+                                }
+                                profileRows.add(profile);
+                            }
+                            out.write(userRows, detailRows, profileRows);
+                            long total = done.addAndGet(to - from);
+                            if (progress != null && total / reportEvery != (total - (to - from)) / reportEvery) {
+                                progress.printf("  %,d / %,d users%n", total, users);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        if (progress != null) {
+            Duration took = Duration.ofNanos(System.nanoTime() - start);
+            progress.printf("Generated %,d users in %ds (%,.0f users/s)%n", users, took.toSeconds(),
+                    users / Math.max(0.001, took.toNanos() / 1e9));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        long users = 1_000_000;
+        long seed = 42;
+        int threads = Runtime.getRuntime().availableProcessors();
+        double userRoleShare = 0.1;
+        Path csvDir = null;
+        String jdbcUrl = null;
+        String dbUsername = "root";
+        String dbPassword = "";
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value: " + arg);
+            }
+            String value = arg.substring(eq + 1);
+            switch (arg.substring(2, eq)) {
+                case "users" -> users = Long.parseLong(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "threads" -> threads = Integer.parseInt(value);
+                case "user-role-share" -> userRoleShare = Double.parseDouble(value);
+                case "csv-dir" -> csvDir = Path.of(value);
+                case "jdbc-url" -> jdbcUrl = value;
+                case "db-username" -> dbUsername = value;
+                case "db-password" -> dbPassword = value;
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if ((csvDir == null) == (jdbcUrl == null)) {
+            throw new IllegalArgumentException("Give exactly one of --csv-dir or --jdbc-url");
+        }
+
+        DatasetGenerator generator = new DatasetGenerator(new SyntheticUsers(seed, userRoleShare), threads);
+        try (DatasetSink sink = csvDir != null ? new CsvDatasetSink(csvDir)
+                : new JdbcDatasetSink(jdbcUrl, dbUsername, dbPassword)) {
+            System.out.printf("Generating %,d users (seed %d, %d threads)%n", users, seed, threads);
+            generator.generate(users, sink, System.out);
+        }
+        if (csvDir != null) {
+            System.out.printf("Load with: cd %s && mysql --local-infile=1 <schema> < load.sql%n", csvDir);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.medibridge.user_service.loadtest.dataset;
+
+import java.util.List;
+
+/**
+ * Destination of generated rows. Each generator thread writes through its own {@link Lane},
+ * so sinks need no locking; users and profile details are written before the profiles that reference them.
+ */
+public interface DatasetSink extends AutoCloseable {
+
+    Lane openLane(int lane) throws Exception;
+
+    @Override
+    default void close() throws Exception {
+    }
+
+    interface Lane extends AutoCloseable {
+
+        /**
+         * @param users rows indexed by {@link UserColumn} ordinal
+         * @param details rows indexed by {@link DetailColumn} ordinal
+         * @param profiles rows indexed by {@link ProfileColumn} ordinal
+         */
+        void write(List<Object[]> users, List<Object[]> details, List<Object[]> profiles) throws Exception;
+    }
+}
@@ -0,0 +1,21 @@
+package com.medibridge.user_service.loadtest.dataset;
+
+/**
+ * Columns of user_profile_details written by the generator; the ordinal is the index in a row array.
+ * The row reuses the profile id, and profiles without any of these values get no row.
+ */
+enum DetailColumn {
+    ID("id"),
+    // PatientProfile
+    MEDICAL_CONDITIONS("medical_conditions"),
+    ALLERGIES("allergies"),
+    // DoctorProfile
+    QUALIFICATIONS("qualifications"),
+    CONSULTATION_HOURS("consultation_hours");
+
+    final String column;
+
+    DetailColumn(String column) {
+        this.column = column;
+    }
+}
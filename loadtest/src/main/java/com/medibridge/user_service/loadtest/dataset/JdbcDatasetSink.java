@@ -0,0 +1,170 @@
+package com.medibridge.user_service.loadtest.dataset;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Writes straight into the service schema with multi-row INSERT IGNORE statements,
+ * one transaction per generated chunk. Re-running over an existing dataset skips present rows.
+ * The tables must already exist, i.e. the service has started against the schema once.
+ */
+public final class JdbcDatasetSink implements DatasetSink {
+
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    public JdbcDatasetSink(String jdbcUrl, String username, String password) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * @return whether a user with the given ID exists, e.g. the last one of a generated dataset
+     */
+    public boolean containsUser(UUID id) throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM users WHERE id = ?")) {
+            statement.setBytes(1, toBytes(id));
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    @Override
+    public Lane openLane(int lane) throws SQLException {
+        Connection connection = connect();
+        connection.setAutoCommit(false);
+        return new JdbcLane(connection);
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(jdbcUrl, username, password);
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static final class JdbcLane implements Lane {
+
+        private final Connection connection;
+        private final RowInserter users;
+        private final RowInserter details;
+        private final RowInserter profiles;
+
+        JdbcLane(Connection connection) {
+            this.connection = connection;
+            this.users = new RowInserter(connection, "users", Arrays.stream(UserColumn.values())
+                    .map(column -> column.column).toList());
+            this.details = new RowInserter(connection, "user_profile_details", Arrays.stream(DetailColumn.values())
+                    .map(column -> column.column).toList());
+            this.profiles = new RowInserter(connection, "user_profiles", Arrays.stream(ProfileColumn.values())
+                    .map(column -> column.column).toList());
+        }
+
+        @Override
+        public void write(List<Object[]> userRows, List<Object[]> detailRows, List<Object[]> profileRows)
+                throws SQLException {
+            users.insert(userRows);
+            details.insert(detailRows);
+            profiles.insert(profileRows);
+            connection.commit();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                users.close();
+                details.close();
+                profiles.close();
+            } finally {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * Keeps the full-size statement prepared; a shorter tail batch gets its own statement.
+     */
+    private static final class RowInserter implements AutoCloseable {
+
+        private final Connection connection;
+        private final String table;
+        private final List<String> columns;
+        private PreparedStatement full;
+
+        RowInserter(Connection connection, String table, List<String> columns) {
+            this.connection = connection;
+            this.table = table;
+            this.columns = columns;
+        }
+
+        void insert(List<Object[]> rows) throws SQLException {
+            for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+                int to = Math.min(rows.size(), from + ROWS_PER_STATEMENT);
+                if (to - from == ROWS_PER_STATEMENT) {
+                    if (full == null) {
+                        full = connection.prepareStatement(sql(ROWS_PER_STATEMENT));
+                    }
+                    execute(full, rows, from, to);
+                } else {
+                    try (PreparedStatement tail = connection.prepareStatement(sql(to - from))) {
+                        execute(tail, rows, from, to);
+                    }
+                }
+            }
+        }
+
+        private void execute(PreparedStatement statement, List<Object[]> rows, int from, int to) throws SQLException {
+            int parameter = 1;
+            for (int i = from; i < to; i++) {
+                for (Object value : rows.get(i)) {
+                    statement.setObject(parameter++, jdbcValue(value));
+                }
+            }
+            statement.executeUpdate();
+        }
+
+        private String sql(int rows) {
+            String tuple = columns.stream().map(column -> "?").collect(Collectors.joining(", ", "(", ")"));
+            return "INSERT IGNORE INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                    + String.join(", ", Collections.nCopies(rows, tuple));
+        }
+
+        private static Object jdbcValue(Object value) {
+            if (value instanceof UUID id) {
+                return toBytes(id);
+            }
+            if (value instanceof LocalDateTime dateTime) {
+                return Timestamp.valueOf(dateTime);
+            }
+            return value;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (full != null) {
+                full.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.medibridge.user_service.loadtest.dataset;
+
+/**
+ * Columns of the single-table user_profiles hierarchy written by the generator;
+ * the ordinal is the index in a row array. Columns not used by a profile type stay null.
+ * The free-text columns live in user_profile_details, see {@link DetailColumn}.
+ */
+enum ProfileColumn {
+    // UserProfile
+    PROFILE_TYPE("profile_type"),
+    ID("id"),
+    USER_ID("user_id"),
+    STATUS("status"),
+    CREATED_AT("created_at"),
+    UPDATED_AT("updated_at"),
+    VERSION("version"),
+    DETAILS_ID("details_id"),
+    // Shared by several profile types
+    FIRST_NAME("first_name"),
+    LAST_NAME("last_name"),
+    DEPARTMENT("department"),
+    // AdminProfile
+    ACCESS_LEVEL("access_level"),
+    PERMISSIONS("permissions"),
+    ORGANIZATION_CODE("organization_code"),
+    REPORTING_MANAGER("reporting_manager"),
+    LOCATION("location"),
+    COST_CENTER("cost_center"),
+    MFA_ENABLED("mfa_enabled"),
+    AUDIT_ACCESS_ENABLED("audit_access_enabled"),
+    IP_WHITELIST("ip_whitelist"),
+    LAST_ACTIVITY_TIME("last_activity_time"),
+    FAILED_LOGIN_ATTEMPTS("failed_login_attempts"),
+    ACCOUNT_LOCKED("account_locked"),
+    APPROVAL_CHAIN("approval_chain"),
+    // DoctorProfile
+    LICENSE_NUMBER("license_number"),
+    LICENSE_ISSUING_BODY("license_issuing_body"),
+    LICENSE_EXPIRY_DATE("license_expiry_date"),
+    SPECIALIZATION("specialization"),
+    MEDICAL_REGISTRATION("medical_registration"),
+    CLINIC_ADDRESS("clinic_address"),
+    CLINIC_PHONE_NUMBER("clinic_phone_number"),
+    AVAILABILITY_SCHEDULE_ACTIVE("availability_schedule_active"),
+    MAX_PATIENTS_PER_DAY("max_patients_per_day"),
+    CONSULTATION_DURATION_MINUTES("consultation_duration_minutes"),
+    CONSULTATION_FEE("consultation_fee"),
+    BOARD_CERTIFICATIONS("board_certifications"),
+    YEARS_OF_EXPERIENCE("years_of_experience"),
+    LANGUAGES("languages"),
+    VERIFICATION_STATUS("verification_status"),
+    VERIFICATION_DATE("verification_date"),
+    IS_ACCEPTING_NEW_PATIENTS("is_accepting_new_patients"),
+    OFFICE_LOCATION("office_location"),
+    AFFILIATED_HOSPITALS("affiliated_hospitals"),
+    AVERAGE_RATING("average_rating"),
+    TOTAL_CONSULTATIONS("total_consultations"),
+    // PatientProfile
+    DATE_OF_BIRTH("date_of_birth"),
+    GENDER("gender"),
+    PHONE_NUMBER("phone_number"),
+    ADDRESS("address"),
+    CITY("city"),
+    STATE("state"),
+    ZIP_CODE("zip_code"),
+    COUNTRY("country"),
+    INSURANCE_PROVIDER("insurance_provider"),
+    INSURANCE_POLICY_NUMBER("insurance_policy_number"),
+    INSURANCE_POLICY_EXPIRY_DATE("insurance_policy_expiry_date"),
+    BLOOD_GROUP("blood_group"),
+    MEDICAL_HISTORY_ACCESS_GRANTED("medical_history_access_granted"),
+    EMERGENCY_CONTACT_NAME("emergency_contact_name"),
+    EMERGENCY_CONTACT_PHONE("emergency_contact_phone"),
+    EMERGENCY_CONTACT_RELATION("emergency_contact_relation"),
+    PREFERRED_LANGUAGE("preferred_language"),
+    NOTIFICATIONS_ENABLED("notifications_enabled"),
+    COMMUNICATION_PREFERENCE("communication_preference"),
+    LAST_CONSULTATION_DATE("last_consultation_date"),
+    GDPR_CONSENT("gdpr_consent"),
+    TERMS_AND_CONDITIONS_ACCEPTED("terms_and_conditions_accepted"),
+    PRIVACY_POLICY_ACCEPTED("privacy_policy_accepted"),
+    ACCOUNT_CREATED_DATE("account_created_date"),
+    LAST_LOGIN_DATE("last_login_date"),
+    TWO_FACTOR_AUTHENTICATION_ENABLED("two_factor_authentication_enabled");
+
+    final String column;
+
+    ProfileColumn(String column) {
+        this.column = column;
+    }
+}
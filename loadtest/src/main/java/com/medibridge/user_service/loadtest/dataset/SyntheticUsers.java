@@ -0,0 +1,381 @@
+package com.medibridge.user_service.loadtest.dataset;
+
+import com.medibridge.user_service.entity.AccountStatus;
+import com.medibridge.user_service.entity.Role;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Deterministic synthetic users. Every attribute of user n is a pure function of (seed, n),
+ * so rows can be generated in any order on any number of threads, and a load test can address
+ * user n (username, id, role) without reading the database.
+ *
+ * Mix: user 0 and ~0.1% of the rest are ADMIN, ~8% DOCTOR, the remainder patients. Patients are
+ * PATIENT (the API's sign-up default) or, for a configurable share, USER (the service default).
+ * All accounts share {@link #PASSWORD}; its BCrypt hash is computed once per run.
+ */
+public final class SyntheticUsers {
+
+    public static final String PASSWORD = "LoadTest#2025";
+
+    /** Fixed reference time so generated timestamps do not depend on when the generator runs. */
+    static final LocalDateTime AS_OF = LocalDateTime.of(2025, 6, 1, 0, 0);
+    private static final long AS_OF_MILLIS = AS_OF.toInstant(ZoneOffset.UTC).toEpochMilli();
+    private static final long DAY_MILLIS = 86_400_000L;
+
+    private static final long NAME_STREAM = 1;
+    private static final long ROLE_STREAM = 2;
+    private static final long ID_STREAM = 3;
+    private static final long STATUS_STREAM = 4;
+    private static final long ATTRIBUTE_STREAM = 5;
+    private static final long PROFILE_ID_STREAM = 6;
+    private static final long PROFILE_STREAM = 7;
+
+    private static final WeightedChoice<String> FIRST_NAMES = WeightedChoice.zipf(0.6,
+            "Nimal", "Kamal", "Sunil", "Chamari", "Dilani", "Ruwan", "Saman", "Nadeesha", "Tharindu", "Ishara",
+            "Kasun", "Sanduni", "Priya", "Arjun", "Lakmal", "Hiruni", "Dinesh", "Anjali", "Mohamed", "Fathima",
+            "Suresh", "Kavya", "Chathura", "Nirosha", "Ravi", "Malini", "Pradeep", "Shalini", "Asanka", "Yasodha");
+    private static final WeightedChoice<String> LAST_NAMES = WeightedChoice.zipf(0.8,
+            "Perera", "Fernando", "Silva", "Jayasinghe", "Bandara", "Dissanayake", "Wickramasinghe", "Rajapaksa",
+            "Gunawardena", "Herath", "Kumara", "Senanayake", "Ratnayake", "Wijesinghe", "Karunaratne",
+            "Sivakumar", "Nadarajah", "Rahman", "Mendis", "Abeysekera", "Peiris", "Gamage", "Ekanayake");
+    private static final WeightedChoice<String> EMAIL_DOMAINS = WeightedChoice.weighted(
+            List.of("gmail.com", "yahoo.com", "outlook.com", "hotmail.com", "sltnet.lk"), 60, 14, 12, 8, 6);
+
+    /** Colombo-heavy, roughly following where patients and clinics concentrate. */
+    private static final WeightedChoice<City> CITIES = WeightedChoice.zipf(1.1,
+            new City("Colombo", "Western", "00100"), new City("Gampaha", "Western", "11000"),
+            new City("Kandy", "Central", "20000"), new City("Kurunegala", "North Western", "60000"),
+            new City("Galle", "Southern", "80000"), new City("Negombo", "Western", "11500"),
+            new City("Kalutara", "Western", "12000"), new City("Jaffna", "Northern", "40000"),
+            new City("Matara", "Southern", "81000"), new City("Anuradhapura", "North Central", "50000"),
+            new City("Ratnapura", "Sabaragamuwa", "70000"), new City("Batticaloa", "Eastern", "30000"),
+            new City("Badulla", "Uva", "90000"), new City("Trincomalee", "Eastern", "31000"),
+            new City("Nuwara Eliya", "Central", "22200"));
+    private static final WeightedChoice<Specialty> SPECIALIZATIONS = WeightedChoice.zipf(0.9,
+            new Specialty("General Practice", 1_500, 2_500), new Specialty("Internal Medicine", 3_000, 4_500),
+            new Specialty("Pediatrics", 3_000, 4_500), new Specialty("Obstetrics and Gynecology", 3_500, 5_000),
+            new Specialty("Cardiology", 4_500, 6_500), new Specialty("Dermatology", 3_500, 5_500),
+            new Specialty("Psychiatry", 3_500, 5_000), new Specialty("Orthopedics", 4_000, 6_000),
+            new Specialty("Ophthalmology", 3_500, 5_000), new Specialty("ENT", 3_500, 5_000),
+            new Specialty("Neurology", 4_500, 6_500), new Specialty("Endocrinology", 4_000, 6_000),
+            new Specialty("Nephrology", 4_000, 6_000), new Specialty("Oncology", 5_000, 7_500),
+            new Specialty("Radiology", 3_000, 4_500));
+    private static final WeightedChoice<String> HOSPITALS = WeightedChoice.zipf(0.7,
+            "National Hospital of Sri Lanka", "Lanka Hospitals", "Asiri Central Hospital", "Nawaloka Hospital",
+            "Durdans Hospital", "Teaching Hospital Kandy", "Karapitiya Teaching Hospital", "Hemas Hospital");
+    private static final WeightedChoice<String> QUALIFICATIONS = WeightedChoice.weighted(
+            List.of("MBBS", "MBBS, MD", "MBBS, MS", "MBBS, MRCP (UK)", "MBBS, MD, FRCP"), 40, 30, 12, 10, 8);
+    private static final WeightedChoice<String> LANGUAGES = WeightedChoice.weighted(
+            List.of("Sinhala, English", "Tamil, English", "Sinhala, Tamil, English", "English"), 55, 20, 20, 5);
+    private static final WeightedChoice<String> BLOOD_GROUPS = WeightedChoice.weighted(
+            List.of("O+", "A+", "B+", "AB+", "O-", "A-", "B-", "AB-"), 36, 28, 23, 6, 3, 2, 1.5, 0.5);
+    private static final WeightedChoice<String> INSURERS = WeightedChoice.weighted(
+            List.of("", "Ceylinco Life", "AIA Sri Lanka", "Union Assurance", "Allianz Lanka", "Sri Lanka Insurance"),
+            45, 18, 14, 10, 7, 6);
+    private static final WeightedChoice<String> CONDITIONS = WeightedChoice.weighted(
+            List.of("", "Hypertension", "Type 2 Diabetes", "Asthma", "Hypertension, Type 2 Diabetes",
+                    "Hyperlipidemia", "Hypothyroidism"), 55, 14, 11, 8, 6, 4, 2);
+    private static final WeightedChoice<String> ALLERGIES = WeightedChoice.weighted(
+            List.of("", "Penicillin", "Sulfa drugs", "Peanuts", "Dust mites", "Shellfish"), 70, 9, 5, 5, 7, 4);
+    private static final WeightedChoice<String> RELATIONS = WeightedChoice.weighted(
+            List.of("Spouse", "Parent", "Sibling", "Child", "Friend"), 45, 25, 15, 10, 5);
+    private static final WeightedChoice<String> PREFERRED_LANGUAGES = WeightedChoice.weighted(
+            List.of("si", "ta", "en"), 70, 18, 12);
+    private static final WeightedChoice<String> COMMUNICATION = WeightedChoice.weighted(
+            List.of("SMS", "EMAIL", "BOTH", "NONE"), 45, 25, 25, 5);
+    private static final WeightedChoice<String> ADMIN_DEPARTMENTS = WeightedChoice.zipf(0.8,
+            "Operations", "Patient Services", "IT", "Billing", "Compliance", "Human Resources");
+
+    private final long seed;
+    private final double userRoleShare;
+
+    /**
+     * @param seed generator seed; the same seed always yields the same dataset
+     * @param userRoleShare share of patients given Role.USER instead of Role.PATIENT
+     */
+    public SyntheticUsers(long seed, double userRoleShare) {
+        this.seed = seed;
+        this.userRoleShare = userRoleShare;
+    }
+
+    public Role role(long index) {
+        if (index == 0) {
+            return Role.ADMIN;
+        }
+        SplittableRandom random = random(index, ROLE_STREAM);
+        double r = random.nextDouble();
+        if (r < 0.001) {
+            return Role.ADMIN;
+        }
+        if (r < 0.081) {
+            return Role.DOCTOR;
+        }
+        return random.nextDouble() < userRoleShare ? Role.USER : Role.PATIENT;
+    }
+
+    public String username(long index) {
+        SplittableRandom random = random(index, NAME_STREAM);
+        return username(FIRST_NAMES.pick(random), LAST_NAMES.pick(random), index);
+    }
+
+    public UUID id(long index) {
+        return uuid(index, ID_STREAM);
+    }
+
+    /**
+     * About 3% of accounts are deactivated and 0.5% locked; scenarios must not sign in as those.
+     * User 0, the admin the harness signs in as, is always usable.
+     */
+    public boolean canSignIn(long index) {
+        return index == 0 || random(index, STATUS_STREAM).nextDouble() >= 0.035;
+    }
+
+    /**
+     * BCrypt is deliberately slow, so every account shares one hash. The salt comes from the seed,
+     * keeping the generated rows byte-for-byte reproducible.
+     */
+    String passwordHash() {
+        try {
+            SecureRandom salt = SecureRandom.getInstance("SHA1PRNG");
+            salt.setSeed(seed);
+            return new BCryptPasswordEncoder(10, salt).encode(PASSWORD);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Fill a users row, see {@link UserColumn}.
+     */
+    void fillUser(long index, String passwordHash, Object[] row) {
+        SplittableRandom names = random(index, NAME_STREAM);
+        String first = FIRST_NAMES.pick(names);
+        String last = LAST_NAMES.pick(names);
+        String username = username(first, last, index);
+        SplittableRandom random = random(index, ATTRIBUTE_STREAM);
+        LocalDateTime createdAt = createdAt(random);
+
+        row[UserColumn.ID.ordinal()] = id(index);
+        row[UserColumn.USERNAME.ordinal()] = username;
+        row[UserColumn.PASSWORD.ordinal()] = passwordHash;
+        row[UserColumn.EMAIL.ordinal()] = username + "@" + EMAIL_DOMAINS.pick(random);
+        row[UserColumn.ROLE.ordinal()] = role(index).name();
+        row[UserColumn.FULL_NAME.ordinal()] = first + " " + last;
+        row[UserColumn.PHONE_NUMBER.ordinal()] = phone(random);
+        double status = index == 0 ? 1 : random(index, STATUS_STREAM).nextDouble();
+        row[UserColumn.IS_ACTIVE.ordinal()] = status >= 0.03;
+        row[UserColumn.IS_LOCKED.ordinal()] = status >= 0.03 && status < 0.035;
+        row[UserColumn.FAILED_LOGIN_ATTEMPTS.ordinal()] = random.nextDouble() < 0.9 ? 0 : random.nextInt(1, 5);
+        long minutesSinceSignUp = Duration.between(createdAt, AS_OF).toMinutes();
+        row[UserColumn.LAST_LOGIN_AT.ordinal()] = random.nextDouble() < 0.15 ? null
+                : AS_OF.minusMinutes((long) (Math.pow(random.nextDouble(), 3) * minutesSinceSignUp));
+        row[UserColumn.CREATED_AT.ordinal()] = createdAt;
+        row[UserColumn.UPDATED_AT.ordinal()] = createdAt.plusDays(random.nextInt(0, 30));
+        row[UserColumn.IS_DELETED.ordinal()] = false;
+        row[UserColumn.VERSION.ordinal()] = (long) random.nextInt(0, 4);
+    }
+
+    /**
+     * Fill a user_profiles row matching the user's role, see {@link ProfileColumn},
+     * and its user_profile_details row, see {@link DetailColumn}.
+     *
+     * @return whether the profile has a details row
+     */
+    boolean fillProfile(long index, Object[] row, Object[] details) {
+        SplittableRandom names = random(index, NAME_STREAM);
+        String first = FIRST_NAMES.pick(names);
+        String last = LAST_NAMES.pick(names);
+        // A separate stream from the user row, so profile columns can change without changing users
+        SplittableRandom random = random(index, PROFILE_STREAM);
+        long createdAt = AS_OF_MILLIS - (long) (Math.pow(random.nextDouble(), 0.7) * 3 * 365 * DAY_MILLIS);
+
+        UUID profileId = uuid(index, PROFILE_ID_STREAM);
+        row[ProfileColumn.ID.ordinal()] = profileId;
+        row[ProfileColumn.USER_ID.ordinal()] = id(index);
+        row[ProfileColumn.STATUS.ordinal()] = random.nextDouble() < 0.95
+                ? AccountStatus.ACTIVE.ordinal() : AccountStatus.INACTIVE.ordinal();
+        row[ProfileColumn.CREATED_AT.ordinal()] = createdAt;
+        row[ProfileColumn.UPDATED_AT.ordinal()] = createdAt + random.nextLong(0, 30 * DAY_MILLIS);
+        row[ProfileColumn.VERSION.ordinal()] = 0L;
+
+        switch (role(index)) {
+            case ADMIN -> fillAdmin(random, row);
+            case DOCTOR -> fillDoctor(index, first, last, random, row, details);
+            default -> fillPatient(first, last, createdAt, random, row, details);
+        }
+        for (int i = DetailColumn.ID.ordinal() + 1; i < details.length; i++) {
+            if (details[i] != null) {
+                details[DetailColumn.ID.ordinal()] = profileId;
+                row[ProfileColumn.DETAILS_ID.ordinal()] = profileId;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fillAdmin(SplittableRandom random, Object[] row) {
+        int accessLevel = 1 + (int) (Math.pow(random.nextDouble(), 2) * 5);
+        row[ProfileColumn.PROFILE_TYPE.ordinal()] = "ADMIN";
+        row[ProfileColumn.DEPARTMENT.ordinal()] = ADMIN_DEPARTMENTS.pick(random);
+        row[ProfileColumn.ACCESS_LEVEL.ordinal()] = accessLevel;
+        row[ProfileColumn.PERMISSIONS.ordinal()] = jsonArray(accessLevel >= 4
+                ? "USER_READ,USER_WRITE,DOCTOR_VERIFY,AUDIT_READ" : "USER_READ,USER_WRITE");
+        row[ProfileColumn.ORGANIZATION_CODE.ordinal()] = "MB-" + (100 + random.nextInt(20));
+        row[ProfileColumn.LOCATION.ordinal()] = CITIES.pick(random).name();
+        row[ProfileColumn.COST_CENTER.ordinal()] = "CC-" + (1000 + random.nextInt(50));
+        row[ProfileColumn.MFA_ENABLED.ordinal()] = random.nextDouble() < 0.7;
+        row[ProfileColumn.AUDIT_ACCESS_ENABLED.ordinal()] = accessLevel >= 4;
+        row[ProfileColumn.LAST_ACTIVITY_TIME.ordinal()] = AS_OF_MILLIS - random.nextLong(0, 14 * DAY_MILLIS);
+        row[ProfileColumn.FAILED_LOGIN_ATTEMPTS.ordinal()] = 0;
+        row[ProfileColumn.ACCOUNT_LOCKED.ordinal()] = false;
+    }
+
+    private void fillDoctor(long index, String first, String last, SplittableRandom random, Object[] row,
+                            Object[] details) {
+        Specialty specialty = SPECIALIZATIONS.pick(random);
+        City city = CITIES.pick(random);
+        String hospital = HOSPITALS.pick(random);
+        long experience = 1 + (long) (Math.pow(random.nextDouble(), 1.5) * 39);
+        row[ProfileColumn.PROFILE_TYPE.ordinal()] = "DOCTOR";
+        row[ProfileColumn.FIRST_NAME.ordinal()] = first;
+        row[ProfileColumn.LAST_NAME.ordinal()] = last;
+        row[ProfileColumn.DEPARTMENT.ordinal()] = specialty.name();
+        row[ProfileColumn.LICENSE_NUMBER.ordinal()] = "SLMC-" + index;
+        row[ProfileColumn.LICENSE_ISSUING_BODY.ordinal()] = "Sri Lanka Medical Council";
+        row[ProfileColumn.LICENSE_EXPIRY_DATE.ordinal()] = AS_OF_MILLIS + random.nextLong(30, 5 * 365) * DAY_MILLIS;
+        row[ProfileColumn.SPECIALIZATION.ordinal()] = specialty.name();
+        row[ProfileColumn.MEDICAL_REGISTRATION.ordinal()] = "REG-" + index;
+        details[DetailColumn.QUALIFICATIONS.ordinal()] = jsonArray(QUALIFICATIONS.pick(random));
+        row[ProfileColumn.CLINIC_ADDRESS.ordinal()] = (1 + random.nextInt(400)) + " Hospital Road, " + city.name();
+        row[ProfileColumn.CLINIC_PHONE_NUMBER.ordinal()] = phone(random);
+        details[DetailColumn.CONSULTATION_HOURS.ordinal()] = "{\"weekdays\":\"16:00-20:00\",\"saturday\":\"09:00-12:00\"}";
+        row[ProfileColumn.AVAILABILITY_SCHEDULE_ACTIVE.ordinal()] = random.nextDouble() < 0.8;
+        row[ProfileColumn.MAX_PATIENTS_PER_DAY.ordinal()] = 10 + random.nextInt(31);
+        row[ProfileColumn.CONSULTATION_DURATION_MINUTES.ordinal()] = random.nextDouble() < 0.7 ? 15 : 30;
+        row[ProfileColumn.CONSULTATION_FEE.ordinal()] =
+                (double) (specialty.minFee() + random.nextInt(specialty.maxFee() - specialty.minFee() + 1) / 100 * 100);
+        row[ProfileColumn.BOARD_CERTIFICATIONS.ordinal()] =
+                experience > 8 ? jsonArray("Board Certified - " + specialty.name()) : null;
+        row[ProfileColumn.YEARS_OF_EXPERIENCE.ordinal()] = experience;
+        row[ProfileColumn.LANGUAGES.ordinal()] = jsonArray(LANGUAGES.pick(random));
+        row[ProfileColumn.VERIFICATION_STATUS.ordinal()] = random.nextDouble() < 0.92;
+        row[ProfileColumn.VERIFICATION_DATE.ordinal()] = AS_OF_MILLIS - random.nextLong(1, 3 * 365) * DAY_MILLIS;
+        row[ProfileColumn.IS_ACCEPTING_NEW_PATIENTS.ordinal()] = random.nextDouble() < 0.75;
+        row[ProfileColumn.OFFICE_LOCATION.ordinal()] = city.name();
+        row[ProfileColumn.AFFILIATED_HOSPITALS.ordinal()] = jsonArray(hospital);
+        row[ProfileColumn.AVERAGE_RATING.ordinal()] = Math.round((5 - Math.pow(random.nextDouble(), 2) * 2) * 10) / 10.0;
+        row[ProfileColumn.TOTAL_CONSULTATIONS.ordinal()] = (int) (experience * random.nextInt(50, 400));
+    }
+
+    private void fillPatient(String first, String last, long createdAt, SplittableRandom random, Object[] row,
+                             Object[] details) {
+        City city = CITIES.pick(random);
+        // Ages 0-90, concentrated around 35-45
+        int age = (int) Math.max(0, Math.min(90, 40 + random.nextGaussian() * 18));
+        LocalDate dateOfBirth = AS_OF.toLocalDate().minusYears(age).minusDays(random.nextInt(365));
+        String insurer = INSURERS.pick(random);
+        String relationName = FIRST_NAMES.pick(random) + " " + last;
+
+        row[ProfileColumn.PROFILE_TYPE.ordinal()] = "USER";
+        row[ProfileColumn.FIRST_NAME.ordinal()] = first;
+        row[ProfileColumn.LAST_NAME.ordinal()] = last;
+        row[ProfileColumn.DATE_OF_BIRTH.ordinal()] = dateOfBirth.toString();
+        row[ProfileColumn.GENDER.ordinal()] = random.nextDouble() < 0.51 ? "FEMALE" : "MALE";
+        row[ProfileColumn.PHONE_NUMBER.ordinal()] = phone(random);
+        row[ProfileColumn.ADDRESS.ordinal()] = (1 + random.nextInt(500)) + "/" + (1 + random.nextInt(20))
+                + " Temple Road";
+        row[ProfileColumn.CITY.ordinal()] = city.name();
+        row[ProfileColumn.STATE.ordinal()] = city.province();
+        row[ProfileColumn.ZIP_CODE.ordinal()] = city.postalCode();
+        row[ProfileColumn.COUNTRY.ordinal()] = "Sri Lanka";
+        if (!insurer.isEmpty()) {
+            row[ProfileColumn.INSURANCE_PROVIDER.ordinal()] = insurer;
+            row[ProfileColumn.INSURANCE_POLICY_NUMBER.ordinal()] = "POL-" + Long.toString(random.nextLong(1L << 40), 36)
+                    .toUpperCase(Locale.ROOT);
+            row[ProfileColumn.INSURANCE_POLICY_EXPIRY_DATE.ordinal()] =
+                    AS_OF_MILLIS + random.nextLong(-90, 730) * DAY_MILLIS;
+        }
+        row[ProfileColumn.BLOOD_GROUP.ordinal()] = random.nextDouble() < 0.6 ? BLOOD_GROUPS.pick(random) : null;
+        row[ProfileColumn.MEDICAL_HISTORY_ACCESS_GRANTED.ordinal()] = random.nextDouble() < 0.4;
+        details[DetailColumn.MEDICAL_CONDITIONS.ordinal()] = emptyToNull(CONDITIONS.pick(random));
+        details[DetailColumn.ALLERGIES.ordinal()] = emptyToNull(ALLERGIES.pick(random));
+        if (random.nextDouble() < 0.7) {
+            row[ProfileColumn.EMERGENCY_CONTACT_NAME.ordinal()] = relationName;
+            row[ProfileColumn.EMERGENCY_CONTACT_PHONE.ordinal()] = phone(random);
+            row[ProfileColumn.EMERGENCY_CONTACT_RELATION.ordinal()] = RELATIONS.pick(random);
+        }
+        row[ProfileColumn.PREFERRED_LANGUAGE.ordinal()] = PREFERRED_LANGUAGES.pick(random);
+        row[ProfileColumn.NOTIFICATIONS_ENABLED.ordinal()] = random.nextDouble() < 0.85;
+        row[ProfileColumn.COMMUNICATION_PREFERENCE.ordinal()] = COMMUNICATION.pick(random);
+        row[ProfileColumn.LAST_CONSULTATION_DATE.ordinal()] = random.nextDouble() < 0.35 ? null
+                : AS_OF_MILLIS - (long) (Math.pow(random.nextDouble(), 2) * 365 * DAY_MILLIS);
+        row[ProfileColumn.GDPR_CONSENT.ordinal()] = true;
+        row[ProfileColumn.TERMS_AND_CONDITIONS_ACCEPTED.ordinal()] = true;
+        row[ProfileColumn.PRIVACY_POLICY_ACCEPTED.ordinal()] = true;
+        row[ProfileColumn.ACCOUNT_CREATED_DATE.ordinal()] = createdAt;
+        row[ProfileColumn.LAST_LOGIN_DATE.ordinal()] = AS_OF_MILLIS - random.nextLong(0, 180 * DAY_MILLIS);
+        row[ProfileColumn.TWO_FACTOR_AUTHENTICATION_ENABLED.ordinal()] = random.nextDouble() < 0.1;
+    }
+
+    /** Sign-ups grow over time: more recent accounts are more common. */
+    private static LocalDateTime createdAt(SplittableRandom random) {
+        return AS_OF.minusMinutes((long) (Math.pow(random.nextDouble(), 0.7) * 3 * 365 * 24 * 60));
+    }
+
+    private static String phone(SplittableRandom random) {
+        // Sri Lankan mobile: +947 followed by 8 digits
+        return "+947" + (10_000_000 + random.nextInt(90_000_000));
+    }
+
+    private static String username(String first, String last, long index) {
+        return (first + "." + last + "." + index).toLowerCase(Locale.ROOT);
+    }
+
+    /** Value of a JSON list column from a comma-separated list; the values hold no quotes. */
+    private static String jsonArray(String commaSeparated) {
+        return Arrays.stream(commaSeparated.split(","))
+                .map(String::trim)
+                .collect(Collectors.joining("\",\"", "[\"", "\"]"));
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private UUID uuid(long index, long stream) {
+        SplittableRandom random = random(index, stream);
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private SplittableRandom random(long index, long stream) {
+        return new SplittableRandom(mix(mix(seed + stream * 0x9E3779B97F4A7C15L) ^ index));
+    }
+
+    /** SplitMix64 finaliser. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record City(String name, String province, String postalCode) {
+    }
+
+    private record Specialty(String name, int minFee, int maxFee) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.medibridge.user_service.loadtest.dataset;
+
+/**
+ * Columns of the users table written by the generator; the ordinal is the index in a row array.
+ */
+enum UserColumn {
+    ID("id"),
+    USERNAME("username"),
+    PASSWORD("password"),
+    EMAIL("email"),
+    ROLE("role"),
+    FULL_NAME("full_name"),
+    PHONE_NUMBER("phone_number"),
+    IS_ACTIVE("is_active"),
+    IS_LOCKED("is_locked"),
+    FAILED_LOGIN_ATTEMPTS("failed_login_attempts"),
+    LAST_LOGIN_AT("last_login_at"),
+    CREATED_AT("created_at"),
+    UPDATED_AT("updated_at"),
+    IS_DELETED("is_deleted"),
+    VERSION("version");
+
+    final String column;
+
+    UserColumn(String column) {
+        this.column = column;
+    }
+}
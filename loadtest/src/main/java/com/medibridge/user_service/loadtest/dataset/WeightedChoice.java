@@ -0,0 +1,56 @@
+package com.medibridge.user_service.loadtest.dataset;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Picks values with fixed relative weights, e.g. a Zipf-like skew where the first value is most common.
+ */
+final class WeightedChoice<T> {
+
+    private final List<T> values;
+    private final double[] cumulative;
+
+    private WeightedChoice(List<T> values, double[] weights) {
+        if (values.size() != weights.length || values.isEmpty()) {
+            throw new IllegalArgumentException("One weight per value required");
+        }
+        this.values = List.copyOf(values);
+        this.cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    static <T> WeightedChoice<T> weighted(List<T> values, double... weights) {
+        return new WeightedChoice<>(values, weights);
+    }
+
+    /**
+     * Weight of the value at rank r is 1 / r^exponent.
+     */
+    @SafeVarargs
+    static <T> WeightedChoice<T> zipf(double exponent, T... values) {
+        double[] weights = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            weights[i] = 1 / Math.pow(i + 1, exponent);
+        }
+        return new WeightedChoice<>(Arrays.asList(values), weights);
+    }
+
+    @SafeVarargs
+    static <T> WeightedChoice<T> uniform(T... values) {
+        return zipf(0, values);
+    }
+
+    T pick(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return values.get(Math.min(values.size() - 1, index >= 0 ? index : -index - 1));
+    }
+}
@@ -34,10 +34,12 @@ public interface UserMapper {
                 .lastLoginAt(user.getLastLoginAt())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
+                .version(user.getVersion())
                 .build();
 
         if (user.getProfile() != null) {
             dto.setProfile(userProfileToUserProfileDTO(user.getProfile()));
+            dto.setProfileVersion(user.getProfile().getVersion());
         }
 
         return dto;
@@ -0,0 +1,95 @@
+package com.medibridge.user_service.config;
+
+import com.medibridge.user_service.observability.sql.SqlStatementFilter;
+import com.medibridge.user_service.observability.sql.SqlStatementStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP access log.
+ * Writes one structured line per request on completion to the "access" logger.
+ * Runs ahead of the concurrency limiter and security, so requests they reject (503, 401/403)
+ * get their line too. Successful requests are sampled; errors and slow requests are always logged.
+ * The correlation ID is added by the log pattern from MDC; the handler by {@link LoggingInterceptor}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+    private static final String API_PATH_PREFIX = "/api/";
+    private static final String HEALTH_PATH = "/api/v1/health";
+    private static final String INFO_PATH = "/api/v1/info";
+
+    @Value("${application.access-log.sample-rate:0.1}")
+    private double sampleRate;
+
+    @Value("${application.access-log.slow-threshold-ms:500}")
+    private long slowThresholdMs;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith(API_PATH_PREFIX) || uri.equals(HEALTH_PATH) || uri.equals(INFO_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startTime = System.nanoTime();
+        Exception failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            log(request, response, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), failure);
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, long durationMs, Exception ex) {
+        // An exception escaping the chain becomes a 500 after this filter returns
+        int status = ex != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        Object handler = request.getAttribute(LoggingInterceptor.HANDLER);
+        if (handler == null) {
+            handler = "-";
+        }
+
+        SqlStatementStats sql = (SqlStatementStats) request.getAttribute(SqlStatementFilter.STATS);
+        int sqlStatements = sql != null ? sql.getStatements() : 0;
+        long sqlRows = sql != null ? sql.getRows() : 0;
+        long sqlMs = sql != null ? sql.getElapsedMillis() : 0;
+
+        if (ex != null || status >= 500) {
+            ACCESS_LOG.error("method={} path={} status={} durationMs={} handler={} sqlStatements={} sqlRows={} sqlMs={} remote={} error=\"{}\"",
+                    request.getMethod(), request.getRequestURI(), status, durationMs, handler, sqlStatements, sqlRows, sqlMs,
+                    request.getRemoteAddr(), ex != null ? ex.getMessage() : "");
+        } else if (status >= 400 || durationMs >= slowThresholdMs) {
+            ACCESS_LOG.warn("method={} path={} status={} durationMs={} handler={} sqlStatements={} sqlRows={} sqlMs={} remote={}",
+                    request.getMethod(), request.getRequestURI(), status, durationMs, handler, sqlStatements, sqlRows, sqlMs,
+                    request.getRemoteAddr());
+        } else if (ACCESS_LOG.isInfoEnabled() && sampled()) {
+            ACCESS_LOG.info("method={} path={} status={} durationMs={} handler={} sqlStatements={} sqlRows={} sqlMs={} remote={} sampleRate={}",
+                    request.getMethod(), request.getRequestURI(), status, durationMs, handler, sqlStatements, sqlRows, sqlMs,
+                    request.getRemoteAddr(), sampleRate);
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
@@ -0,0 +1,18 @@
+package com.medibridge.user_service.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration.
+ * The Caffeine cache manager itself is auto-configured from spring.cache.* properties.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * UserResponseDTO by user ID. Evicted on every local write to the user.
+     */
+    public static final String USERS_CACHE = "users";
+}
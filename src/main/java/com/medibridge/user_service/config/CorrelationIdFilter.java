@@ -1,8 +1,11 @@
 package com.medibridge.user_service.config;
 
+import com.medibridge.user_service.util.CorrelationIdGenerator;
 import com.medibridge.user_service.util.CorrelationIdUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -15,8 +18,10 @@ import java.io.IOException;
 /**
  * Filter to intercept all requests and manage correlation IDs.
  * Ensures correlation IDs are tracked across the entire request lifecycle.
+ * Runs first, so the access line of a request shed or rejected further down still carries its ID.
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @Slf4j
 @RequiredArgsConstructor
 public class CorrelationIdFilter extends OncePerRequestFilter {
@@ -27,19 +32,23 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
-            // Extract or generate correlation ID
+            // Adopt a well-formed inbound correlation ID, otherwise generate one.
+            // Exactly one MDC write per request, so the logging MDC map is copied at most once.
             String correlationId = request.getHeader(CORRELATION_ID_HEADER);
-            if (correlationId == null || correlationId.isBlank()) {
-                correlationId = CorrelationIdUtil.generateOrGetCorrelationId();
+            if (CorrelationIdUtil.isValid(correlationId)) {
+                CorrelationIdUtil.setCorrelationId(correlationId);
             } else {
+                correlationId = CorrelationIdGenerator.next();
                 CorrelationIdUtil.setCorrelationId(correlationId);
             }
 
             // Add correlation ID to response header
             response.setHeader(CORRELATION_ID_HEADER, correlationId);
 
-            log.debug("Request initiated - Path: {}, Method: {}, CorrelationId: {}",
-                    request.getRequestURI(), request.getMethod(), correlationId);
+            if (log.isDebugEnabled()) {
+                log.debug("Request initiated - Path: {}, Method: {}, CorrelationId: {}",
+                        request.getRequestURI(), request.getMethod(), correlationId);
+            }
 
             filterChain.doFilter(request, response);
         } finally {
@@ -0,0 +1,34 @@
+package com.medibridge.user_service.config;
+
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * JSON serialisation configuration for HTTP responses.
+ * Every response is wrapped in ApiResponse, so the settings here apply to the whole API surface.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public JsonMapperBuilderCustomizer responseSerializationCustomizer() {
+        return JacksonConfig::tune;
+    }
+
+    /**
+     * Apply the response serialisation settings to a mapper builder.
+     * Blackbird replaces reflective getter calls with generated lambdas, which is
+     * where most of the time goes when writing large lists of DTOs. It defines classes at
+     * runtime, which a native image cannot do, so the native build keeps plain reflection.
+     * Public so the serialisation benchmark measures the same mapper the converter uses.
+     */
+    public static void tune(JsonMapper.Builder builder) {
+        if (!NativeDetector.inNativeImage()) {
+            builder.addModule(new BlackbirdModule());
+        }
+    }
+}
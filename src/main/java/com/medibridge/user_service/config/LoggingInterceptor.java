@@ -1,77 +1,27 @@
 package com.medibridge.user_service.config;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 /**
- * HTTP request/response logging interceptor.
+ * Access logging interceptor.
+ * Only the dispatcher knows which handler serves a request, so it is passed to {@link AccessLogFilter},
+ * which writes the access line, as a request attribute. Requests rejected before dispatch have none.
  */
-@Slf4j
 @Component
 public class LoggingInterceptor implements HandlerInterceptor {
 
-    private static final String START_TIME = "START_TIME";
-    private static final String REQUEST_ID = "REQUEST_ID";
+    static final String HANDLER = LoggingInterceptor.class.getName() + ".HANDLER";
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        long startTime = System.currentTimeMillis();
-        request.setAttribute(START_TIME, startTime);
-
-        String requestId = generateRequestId();
-        request.setAttribute(REQUEST_ID, requestId);
-
-        log.info("[{}] {} {} - Method: {}, Remote IP: {}",
-                requestId,
-                request.getMethod(),
-                request.getRequestURI(),
-                request.getMethod(),
-                request.getRemoteAddr());
-
-        return true;
-    }
-
-    @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
-                          ModelAndView modelAndView) {
-        // No operation
-    }
-
-    @Override
-    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
-                               Exception ex) {
-        long startTime = (long) request.getAttribute(START_TIME);
-        long duration = System.currentTimeMillis() - startTime;
-        String requestId = (String) request.getAttribute(REQUEST_ID);
-
-        if (ex != null) {
-            log.error("[{}] {} {} - Status: {} - Duration: {}ms - Exception: {}",
-                    requestId,
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    response.getStatus(),
-                    duration,
-                    ex.getMessage());
-        } else {
-            log.info("[{}] {} {} - Status: {} - Duration: {}ms",
-                    requestId,
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    response.getStatus(),
-                    duration);
+        if (handler instanceof HandlerMethod method) {
+            request.setAttribute(HANDLER, method.getBeanType().getSimpleName() + "#" + method.getMethod().getName());
         }
-    }
-
-    /**
-     * Generate unique request ID for tracing.
-     */
-    private String generateRequestId() {
-        return "REQ-" + System.currentTimeMillis() + "-" + Thread.currentThread().getId();
+        return true;
     }
 }
-
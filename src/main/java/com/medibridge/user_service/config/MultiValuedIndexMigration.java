@@ -0,0 +1,83 @@
+package com.medibridge.user_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * V5: multi-valued indexes over the JSON list columns of V4, so the JSON_CONTAINS lookups
+ * (doctors by language or hospital, patients by preferred doctor) read index entries instead of
+ * every row of the profile type. The indexed expression must match the one in the repository queries.
+ * Multi-valued indexes need MySQL 8.0.17; on MariaDB, used for local and test databases,
+ * the version is recorded without changes and those lookups scan the profile type.
+ */
+@Slf4j
+@Component
+public class MultiValuedIndexMigration implements JavaMigration {
+
+    static final String DDL = """
+            ALTER TABLE user_profiles
+                ADD INDEX idx_profiles_languages ((CAST(JSON_EXTRACT(languages, '$') AS CHAR(255) ARRAY))),
+                ADD INDEX idx_profiles_hospitals ((CAST(JSON_EXTRACT(affiliated_hospitals, '$') AS CHAR(255) ARRAY))),
+                ADD INDEX idx_profiles_preferred_doctors ((CAST(JSON_EXTRACT(preferred_doctor_ids, '$') AS CHAR(36) ARRAY)))
+            """;
+
+    private static final Pattern SERVER_VERSION = Pattern.compile("(\\d+)\\.(\\d+)\\.(\\d+)");
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("5");
+    }
+
+    @Override
+    public String getDescription() {
+        return "multi valued indexes";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return DDL.hashCode();
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            String serverVersion;
+            try (ResultSet rs = statement.executeQuery("SELECT VERSION()")) {
+                rs.next();
+                serverVersion = rs.getString(1);
+            }
+            if (!supportsMultiValuedIndexes(serverVersion)) {
+                log.info("Skipping multi-valued indexes, not supported by server version {}", serverVersion);
+                return;
+            }
+            statement.execute(DDL);
+        }
+    }
+
+    static boolean supportsMultiValuedIndexes(String serverVersion) {
+        if (serverVersion.contains("MariaDB")) {
+            return false;
+        }
+        Matcher version = SERVER_VERSION.matcher(serverVersion);
+        if (!version.find()) {
+            return false;
+        }
+        int major = Integer.parseInt(version.group(1));
+        int minor = Integer.parseInt(version.group(2));
+        int patch = Integer.parseInt(version.group(3));
+        return major > 8 || major == 8 && (minor > 0 || patch >= 17);
+    }
+}
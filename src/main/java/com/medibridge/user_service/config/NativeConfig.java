@@ -0,0 +1,145 @@
+package com.medibridge.user_service.config;
+
+import com.medibridge.user_service.Mapper.UserMapper;
+import com.medibridge.user_service.dto.AdminProfileDTO;
+import com.medibridge.user_service.dto.AdminRegisterRequest;
+import com.medibridge.user_service.dto.AuthenticationRequest;
+import com.medibridge.user_service.dto.BaseRegisterRequest;
+import com.medibridge.user_service.dto.DoctorProfileDTO;
+import com.medibridge.user_service.dto.DoctorRegisterRequest;
+import com.medibridge.user_service.dto.ErrorResponse;
+import com.medibridge.user_service.dto.PatientProfileDTO;
+import com.medibridge.user_service.dto.PatientRegisterRequest;
+import com.medibridge.user_service.dto.RegisterRequest;
+import com.medibridge.user_service.dto.TokenRefreshRequest;
+import com.medibridge.user_service.dto.UserDTO;
+import com.medibridge.user_service.dto.request.UserBatchRequest;
+import com.medibridge.user_service.dto.request.UserLoginRequest;
+import com.medibridge.user_service.dto.request.UserRegistrationRequest;
+import com.medibridge.user_service.dto.request.UsernameBatchRequest;
+import com.medibridge.user_service.dto.response.ApiResponse;
+import com.medibridge.user_service.dto.response.AuthenticationResponse;
+import com.medibridge.user_service.dto.response.UserBatchResponse;
+import com.medibridge.user_service.dto.response.UserProfileDTO;
+import com.medibridge.user_service.dto.response.UserResponseDTO;
+import com.medibridge.user_service.entity.AdminProfile;
+import com.medibridge.user_service.entity.DoctorProfile;
+import com.medibridge.user_service.entity.PatientProfile;
+import com.medibridge.user_service.entity.ProfileDetails;
+import com.medibridge.user_service.entity.RefreshToken;
+import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.entity.UserProfile;
+import com.medibridge.user_service.entity.converter.StringListConverter;
+import com.medibridge.user_service.entity.converter.UuidListConverter;
+import com.medibridge.user_service.observability.jfr.LoginEvent;
+import com.medibridge.user_service.observability.jfr.RegistrationEvent;
+import com.medibridge.user_service.observability.jfr.RepositoryCallEvent;
+import com.medibridge.user_service.observability.jfr.TokenRefreshEvent;
+import com.medibridge.user_service.observability.jfr.TokenVerificationEvent;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Reflection, proxy and resource hints for the GraalVM native image (-Pnative).
+ * Spring AOT derives most hints from the bean definitions; these cover what it cannot see:
+ * response payloads behind ApiResponse&lt;Object&gt;, SparseFieldset reading DTO fields,
+ * jjwt loading its implementation by class name and the JDBC bulkhead's JDK proxy.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.Hints.class)
+public class NativeConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final List<Class<?>> ENTITIES = List.of(
+                User.class, UserProfile.class, AdminProfile.class, DoctorProfile.class, PatientProfile.class,
+                ProfileDetails.class, RefreshToken.class);
+
+        // Instantiated by Hibernate from @Convert
+        private static final List<Class<?>> CONVERTERS = List.of(StringListConverter.class, UuidListConverter.class);
+
+        private static final List<Class<?>> DTOS = List.of(
+                ApiResponse.class, com.medibridge.user_service.dto.ApiResponse.class, ErrorResponse.class,
+                UserResponseDTO.class, UserProfileDTO.class, com.medibridge.user_service.dto.UserProfileDTO.class,
+                UserBatchResponse.class, AuthenticationResponse.class,
+                com.medibridge.user_service.dto.AuthenticationResponse.class, UserDTO.class,
+                AdminProfileDTO.class, DoctorProfileDTO.class, PatientProfileDTO.class,
+                UserBatchRequest.class, UsernameBatchRequest.class, UserLoginRequest.class,
+                UserRegistrationRequest.class, AuthenticationRequest.class, TokenRefreshRequest.class,
+                RegisterRequest.class, BaseRegisterRequest.class, AdminRegisterRequest.class,
+                DoctorRegisterRequest.class, PatientRegisterRequest.class);
+
+        private static final List<Class<?>> JFR_EVENTS = List.of(
+                LoginEvent.class, RegistrationEvent.class, RepositoryCallEvent.class, TokenRefreshEvent.class,
+                TokenVerificationEvent.class);
+
+        // Instantiated by io.jsonwebtoken.lang.Classes from jjwt-api, which only knows their names
+        private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+                "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+                "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+                "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+                "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+                "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+                "io.jsonwebtoken.impl.security.JwksBridge",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.impl.security.StandardCurves",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.ACCESS_DECLARED_FIELDS);
+            }
+
+            for (Class<?> converter : CONVERTERS) {
+                hints.reflection().registerType(converter, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+
+            BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+            bindings.registerReflectionHints(hints.reflection(), DTOS.toArray(Class<?>[]::new));
+            for (Class<?> dto : DTOS) {
+                // SparseFieldset.selectableFields walks the declared fields
+                hints.reflection().registerType(dto, MemberCategory.ACCESS_DECLARED_FIELDS);
+            }
+
+            // MapStruct generates plain code; the implementation only needs to be constructible
+            hints.reflection().registerType(TypeReference.of(UserMapper.class.getName() + "Impl"),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            for (Class<?> event : JFR_EVENTS) {
+                hints.reflection().registerType(event, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.ACCESS_DECLARED_FIELDS);
+            }
+
+            for (String implementation : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerType(TypeReference.of(implementation),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // BulkheadDataSource hands out permit-releasing Connection proxies
+            hints.proxies().registerJdkProxy(Connection.class);
+        }
+    }
+}
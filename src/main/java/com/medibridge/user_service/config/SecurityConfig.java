@@ -30,7 +30,12 @@ public class SecurityConfig {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 //gateway will handle the authorization
-                .authorizeHttpRequests(req -> req.anyRequest().permitAll())
+                .authorizeHttpRequests(req -> req
+                        // On-demand profiling exposes heap and thread details - admins only
+                        .requestMatchers("/actuator/jfr/**", "/actuator/jfr").hasRole("ADMIN")
+                        .requestMatchers("/actuator/slowqueries/**", "/actuator/slowqueries").hasRole("ADMIN")
+                        .requestMatchers("/actuator/startup").hasRole("ADMIN")
+                        .anyRequest().permitAll())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,25 @@
+package com.medibridge.user_service.config;
+
+import com.medibridge.user_service.util.JwtUtils;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Keeps request hot-path beans eager when spring.main.lazy-initialization is on (fast-startup profile).
+ * Controllers pull in their services and repositories, so the first requests after a scale-out
+ * do not pay for creating them; everything else is created on first use.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter hotPathLazyInitializationExcludeFilter() {
+        LazyInitializationExcludeFilter hotTypes = LazyInitializationExcludeFilter.forBeanTypes(
+                JwtUtils.class, PasswordEncoder.class);
+        return (beanName, beanDefinition, beanType) -> beanType.isAnnotationPresent(RestController.class)
+                || hotTypes.isExcluded(beanName, beanDefinition, beanType);
+    }
+}
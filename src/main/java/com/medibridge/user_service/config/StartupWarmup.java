@@ -0,0 +1,151 @@
+package com.medibridge.user_service.config;
+
+import com.medibridge.user_service.dto.response.ApiResponse;
+import com.medibridge.user_service.dto.response.UserBatchResponse;
+import com.medibridge.user_service.dto.response.UserResponseDTO;
+import com.medibridge.user_service.entity.Role;
+import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.repository.UserRepository;
+import com.medibridge.user_service.service.UserService;
+import com.medibridge.user_service.util.JwtUtils;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Exercises the request hot paths once the context is up and before the instance takes traffic:
+ * JWT sign/verify, BCrypt, the batch user query with DTO mapping, and JSON serialisation.
+ * The users it looks up land in the users cache, but only until its expireAfterWrite passes,
+ * so the cache is not kept warm: the point is getting the code paths compiled.
+ *
+ * Runs as the last ApplicationRunner, so readiness (ApplicationReadyEvent) follows it. Eureka
+ * registers the instance as STARTING (eureka.instance.initial-status), so clients do not route
+ * to it until this marks it UP. A failing step is logged and skipped, never blocking startup.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Slf4j
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final String WARMUP_PASSWORD = "Warmup#2025";
+
+    private final JwtUtils jwtUtils;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final JsonMapper jsonMapper;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final boolean enabled;
+    private final int iterations;
+    private final int passwordChecks;
+    private final int batchUsers;
+
+    public StartupWarmup(JwtUtils jwtUtils,
+                         PasswordEncoder passwordEncoder,
+                         UserRepository userRepository,
+                         UserService userService,
+                         JsonMapper jsonMapper,
+                         ObjectProvider<ApplicationInfoManager> applicationInfoManager,
+                         @Value("${application.warmup.enabled:true}") boolean enabled,
+                         @Value("${application.warmup.iterations:2000}") int iterations,
+                         @Value("${application.warmup.password-checks:3}") int passwordChecks,
+                         @Value("${application.warmup.batch-users:1000}") int batchUsers) {
+        this.jwtUtils = jwtUtils;
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.jsonMapper = jsonMapper;
+        this.applicationInfoManager = applicationInfoManager;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.passwordChecks = passwordChecks;
+        this.batchUsers = batchUsers;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            long start = System.nanoTime();
+            step("jwt", this::warmJwt);
+            step("password", this::warmPasswordEncoder);
+            UserBatchResponse users = step("users", this::warmUserBatch);
+            step("json", () -> warmJson(users));
+            log.info("Warm-up finished in {}ms", (System.nanoTime() - start) / 1_000_000);
+        }
+        applicationInfoManager.ifAvailable(manager -> {
+            manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+            log.info("Eureka instance status set to UP");
+        });
+    }
+
+    private int warmJwt() {
+        User user = User.builder()
+                .username("warmup")
+                .role(Role.PATIENT)
+                .build();
+        int valid = 0;
+        for (int i = 0; i < iterations; i++) {
+            String token = jwtUtils.generateToken(user);
+            if (jwtUtils.isTokenValid(token, user)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private int warmPasswordEncoder() {
+        String hash = passwordEncoder.encode(WARMUP_PASSWORD);
+        int matched = 0;
+        for (int i = 0; i < passwordChecks; i++) {
+            if (passwordEncoder.matches(WARMUP_PASSWORD, hash)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private UserBatchResponse warmUserBatch() {
+        List<UUID> ids = userRepository.findRecentlySignedInIds(PageRequest.of(0, Math.max(1, batchUsers)));
+        // The batch lookup other services call: cache probe, IN query and DTO mapping on misses
+        return userService.getUsersByIds(ids);
+    }
+
+    private int warmJson(UserBatchResponse users) {
+        int bytes = 0;
+        if (users != null) {
+            bytes += jsonMapper.writeValueAsBytes(ApiResponse.success(users, "warmup")).length;
+            for (int i = 0; i < iterations && !users.getUsers().isEmpty(); i++) {
+                UserResponseDTO user = users.getUsers().get(i % users.getUsers().size());
+                bytes += jsonMapper.writeValueAsBytes(ApiResponse.success(user, "warmup")).length;
+            }
+        }
+        return bytes;
+    }
+
+    private <T> T step(String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            log.info("Warm-up {} done in {}ms", name, (System.nanoTime() - start) / 1_000_000);
+            return result;
+        } catch (RuntimeException e) {
+            log.warn("Warm-up {} failed after {}ms, skipping: {}", name, (System.nanoTime() - start) / 1_000_000,
+                    e.toString());
+            return null;
+        }
+    }
+}
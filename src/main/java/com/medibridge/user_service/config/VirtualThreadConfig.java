@@ -0,0 +1,39 @@
+package com.medibridge.user_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration active when spring.threads.virtual.enabled=true.
+ * Spring Boot then runs Tomcat requests and @Async work on virtual threads;
+ * this adds the JDBC bulkhead so the unbounded request concurrency cannot stampede the pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor jdbcBulkheadPostProcessor(Environment environment) {
+        int maxConcurrent = environment.getProperty("application.datasource.bulkhead.max-concurrent", Integer.class, 10);
+        long acquireTimeoutMs = environment.getProperty("application.datasource.bulkhead.acquire-timeout-ms", Long.class, 2000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    log.info("Virtual threads enabled - wrapping DataSource '{}' in JDBC bulkhead (permits={}, timeout={}ms)",
+                            beanName, maxConcurrent, acquireTimeoutMs);
+                    return new BulkheadDataSource(dataSource, maxConcurrent, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
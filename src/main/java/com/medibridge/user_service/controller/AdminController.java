@@ -7,12 +7,16 @@ import com.medibridge.user_service.dto.response.UserResponseDTO;
 import com.medibridge.user_service.service.AuthenticationService;
 import com.medibridge.user_service.service.DoctorProfileService;
 import com.medibridge.user_service.service.UserService;
+import com.medibridge.user_service.util.EntityTagUtil;
+import com.medibridge.user_service.util.SparseFieldset;
 import com.medibridge.user_service.entity.User;
 import com.medibridge.user_service.entity.Role;
+import com.medibridge.user_service.exception.MediBridgeException;
 import com.medibridge.user_service.repository.UserRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -62,12 +66,19 @@ public class AdminController {
      * Get user by ID
      */
     @GetMapping("/users/{userId}")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> getUserById(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<UserResponseDTO>> getUserById(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("REST: Getting user by ID - userId={}", userId);
 
-        UserResponseDTO user = userService.getUserById(userId);
+        SparseFieldset selection = SparseFieldset.parse(fields, UserResponseDTO.class);
 
-        return ResponseEntity.ok(ApiResponse.success(user, "User retrieved"));
+        return EntityTagUtil.conditionalGet(ifNoneMatch,
+                () -> userService.getUserEntityTag(userId, selection).orElse(null),
+                () -> userService.getUserById(userId, selection),
+                user -> EntityTagUtil.of(userId, user, selection),
+                user -> ApiResponse.success(user, "User retrieved"));
     }
 
     /**
@@ -100,10 +111,11 @@ public class AdminController {
     @GetMapping("/doctors")
     public ResponseEntity<ApiResponse<List<UserResponseDTO>>> getAllDoctors(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
         log.info("REST: Getting all doctors - page={}, size={}", page, size);
 
-        List<UserResponseDTO> doctors = userService.getAllDoctors();
+        List<UserResponseDTO> doctors = userService.getAllDoctors(SparseFieldset.parse(fields, UserResponseDTO.class));
 
         return ResponseEntity.ok(ApiResponse.success(
                 doctors,
@@ -115,12 +127,19 @@ public class AdminController {
      * Get doctor by ID
      */
     @GetMapping("/doctors/{doctorId}")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> getDoctorById(@PathVariable UUID doctorId) {
+    public ResponseEntity<ApiResponse<UserResponseDTO>> getDoctorById(
+            @PathVariable UUID doctorId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("REST: Getting doctor by ID - doctorId={}", doctorId);
 
-        UserResponseDTO doctor = userService.getUserById(doctorId);
+        SparseFieldset selection = SparseFieldset.parse(fields, UserResponseDTO.class);
 
-        return ResponseEntity.ok(ApiResponse.success(doctor, "Doctor retrieved"));
+        return EntityTagUtil.conditionalGet(ifNoneMatch,
+                () -> userService.getUserEntityTag(doctorId, selection).orElse(null),
+                () -> userService.getUserById(doctorId, selection),
+                doctor -> EntityTagUtil.of(doctorId, doctor, selection),
+                doctor -> ApiResponse.success(doctor, "Doctor retrieved"));
     }
 
     /**
@@ -235,25 +254,34 @@ public class AdminController {
     @PutMapping("/doctors/{doctorId}")
     public ResponseEntity<ApiResponse<UserResponseDTO>> updateDoctor(
             @PathVariable UUID doctorId,
-            @Valid @RequestBody UserRegistrationRequest request) {
+            @Valid @RequestBody UserRegistrationRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Updating doctor - doctorId={}", doctorId);
 
-        // Verify doctor exists
-        UserResponseDTO existingDoctor = userService.getUserById(doctorId);
-        if (existingDoctor == null) {
-            return ResponseEntity.notFound().build();
+        Long expectedVersion = EntityTagUtil.parseVersion(ifMatch, doctorId);
+
+        // Verify doctor exists (a versioned update reports a missing doctor itself)
+        if (expectedVersion == null) {
+            UserResponseDTO existingDoctor = userService.getUserById(doctorId);
+            if (existingDoctor == null) {
+                return ResponseEntity.notFound().build();
+            }
         }
 
         try {
             // Update user information
-            UserResponseDTO updated = userService.updateUserProfile(doctorId, request);
+            UserResponseDTO updated = userService.updateUserProfile(doctorId, request, expectedVersion);
 
             // Update doctor profile information (specialization, fees, etc.)
             // This would be handled by DoctorProfileService
 
             log.info("Doctor updated successfully - doctorId={}", doctorId);
 
-            return ResponseEntity.ok(ApiResponse.success(updated, "Doctor updated successfully"));
+            return ResponseEntity.ok()
+                    .eTag(EntityTagUtil.of(updated))
+                    .body(ApiResponse.success(updated, "Doctor updated successfully"));
+        } catch (MediBridgeException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error updating doctor: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -286,10 +314,12 @@ public class AdminController {
      * Activate doctor account
      */
     @PutMapping("/doctors/{doctorId}/activate")
-    public ResponseEntity<ApiResponse<Object>> activateDoctor(@PathVariable UUID doctorId) {
+    public ResponseEntity<ApiResponse<Object>> activateDoctor(
+            @PathVariable UUID doctorId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Activating doctor - doctorId={}", doctorId);
 
-        userService.activateUser(doctorId);
+        userService.activateUser(doctorId, EntityTagUtil.parseVersion(ifMatch, doctorId));
 
         return ResponseEntity.ok(ApiResponse.success(null, "Doctor account activated"));
     }
@@ -310,10 +340,12 @@ public class AdminController {
      * Lock doctor account
      */
     @PutMapping("/doctors/{doctorId}/lock")
-    public ResponseEntity<ApiResponse<Object>> lockDoctor(@PathVariable UUID doctorId) {
+    public ResponseEntity<ApiResponse<Object>> lockDoctor(
+            @PathVariable UUID doctorId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Locking doctor account - doctorId={}", doctorId);
 
-        userService.lockUserAccount(doctorId);
+        userService.lockUserAccount(doctorId, EntityTagUtil.parseVersion(ifMatch, doctorId));
 
         return ResponseEntity.ok(ApiResponse.success(null, "Doctor account locked"));
     }
@@ -458,12 +490,15 @@ public class AdminController {
     @PutMapping("/users/{userId}")
     public ResponseEntity<ApiResponse<UserResponseDTO>> updateUser(
             @PathVariable UUID userId,
-            @Valid @RequestBody UserRegistrationRequest request) {
+            @Valid @RequestBody UserRegistrationRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Updating user - userId={}", userId);
 
-        UserResponseDTO updated = userService.updateUserProfile(userId, request);
+        UserResponseDTO updated = userService.updateUserProfile(userId, request, EntityTagUtil.parseVersion(ifMatch, userId));
 
-        return ResponseEntity.ok(ApiResponse.success(updated, "User updated"));
+        return ResponseEntity.ok()
+                .eTag(EntityTagUtil.of(updated))
+                .body(ApiResponse.success(updated, "User updated"));
     }
 
     /**
@@ -482,10 +517,12 @@ public class AdminController {
      * Activate user account
      */
     @PutMapping("/users/{userId}/activate")
-    public ResponseEntity<ApiResponse<Object>> activateUser(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<Object>> activateUser(
+            @PathVariable UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Activating user - userId={}", userId);
 
-        userService.activateUser(userId);
+        userService.activateUser(userId, EntityTagUtil.parseVersion(ifMatch, userId));
 
         return ResponseEntity.ok(ApiResponse.success(null, "User activated"));
     }
@@ -506,10 +543,12 @@ public class AdminController {
      * Lock user account
      */
     @PutMapping("/users/{userId}/lock")
-    public ResponseEntity<ApiResponse<Object>> lockUser(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<Object>> lockUser(
+            @PathVariable UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Locking user account - userId={}", userId);
 
-        userService.lockUserAccount(userId);
+        userService.lockUserAccount(userId, EntityTagUtil.parseVersion(ifMatch, userId));
 
         return ResponseEntity.ok(ApiResponse.success(null, "User account locked"));
     }
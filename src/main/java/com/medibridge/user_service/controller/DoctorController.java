@@ -1,12 +1,17 @@
 package com.medibridge.user_service.controller;
 
+import com.medibridge.user_service.dto.DoctorProfileDTO;
 import com.medibridge.user_service.dto.request.UserRegistrationRequest;
 import com.medibridge.user_service.dto.response.ApiResponse;
 import com.medibridge.user_service.dto.response.UserResponseDTO;
+import com.medibridge.user_service.service.DoctorProfileService;
 import com.medibridge.user_service.service.UserService;
+import com.medibridge.user_service.util.EntityTagUtil;
+import com.medibridge.user_service.util.SparseFieldset;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,17 +32,64 @@ import java.util.UUID;
 public class DoctorController {
 
     private final UserService userService;
+    private final DoctorProfileService doctorProfileService;
 
     /**
      * Get doctor profile
      */
     @GetMapping("/{doctorId}")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> getDoctorProfile(@PathVariable UUID doctorId) {
+    public ResponseEntity<ApiResponse<UserResponseDTO>> getDoctorProfile(
+            @PathVariable UUID doctorId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("REST: Getting doctor profile - doctorId={}", doctorId);
 
-        UserResponseDTO doctor = userService.getUserById(doctorId);
+        SparseFieldset selection = SparseFieldset.parse(fields, UserResponseDTO.class);
+
+        return EntityTagUtil.conditionalGet(ifNoneMatch,
+                () -> userService.getUserEntityTag(doctorId, selection).orElse(null),
+                () -> userService.getUserById(doctorId, selection),
+                doctor -> EntityTagUtil.of(doctorId, doctor, selection),
+                doctor -> ApiResponse.success(doctor, "Doctor profile retrieved"));
+    }
+
+    /**
+     * Get doctor profile details (supports ?fields= for a sparse response)
+     */
+    @GetMapping("/{doctorId}/profile")
+    public ResponseEntity<ApiResponse<DoctorProfileDTO>> getDoctorProfileDetails(
+            @PathVariable UUID doctorId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("REST: Getting doctor profile details - doctorId={}", doctorId);
+
+        SparseFieldset selection = SparseFieldset.parse(fields, DoctorProfileDTO.class);
+
+        return EntityTagUtil.conditionalGet(ifNoneMatch,
+                () -> doctorProfileService.getProfileEntityTag(doctorId, selection).orElse(null),
+                () -> doctorProfileService.getDoctorProfileDTO(doctorId, selection),
+                profile -> EntityTagUtil.ofProfile(doctorId, profile.getVersion(), selection),
+                profile -> ApiResponse.success(profile, "Doctor profile details retrieved"));
+    }
+
+    /**
+     * Update doctor profile details; If-Match takes the ETag of the profile details read
+     * Doctors may only update their own profile; admins may update any
+     */
+    @PutMapping("/{doctorId}/profile")
+    @PreAuthorize("(hasRole('DOCTOR') and #doctorId == principal.id) or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<DoctorProfileDTO>> updateDoctorProfileDetails(
+            @PathVariable UUID doctorId,
+            @Valid @RequestBody DoctorProfileDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("REST: Updating doctor profile details - doctorId={}", doctorId);
+
+        DoctorProfileDTO updated = doctorProfileService.updateDoctorProfile(
+                doctorId, request, EntityTagUtil.parseProfileVersion(ifMatch, doctorId));
 
-        return ResponseEntity.ok(ApiResponse.success(doctor, "Doctor profile retrieved"));
+        return ResponseEntity.ok()
+                .eTag(EntityTagUtil.ofProfile(doctorId, updated.getVersion(), SparseFieldset.ALL))
+                .body(ApiResponse.success(updated, "Doctor profile details updated"));
     }
 
     /**
@@ -56,12 +108,15 @@ public class DoctorController {
     @PutMapping("/{doctorId}")
     public ResponseEntity<ApiResponse<UserResponseDTO>> updateDoctorProfile(
             @PathVariable UUID doctorId,
-            @Valid @RequestBody UserRegistrationRequest request) {
+            @Valid @RequestBody UserRegistrationRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Updating doctor profile - doctorId={}", doctorId);
 
-        UserResponseDTO updated = userService.updateUserProfile(doctorId, request);
+        UserResponseDTO updated = userService.updateUserProfile(doctorId, request, EntityTagUtil.parseVersion(ifMatch, doctorId));
 
-        return ResponseEntity.ok(ApiResponse.success(updated, "Doctor profile updated"));
+        return ResponseEntity.ok()
+                .eTag(EntityTagUtil.of(updated))
+                .body(ApiResponse.success(updated, "Doctor profile updated"));
     }
 
     /**
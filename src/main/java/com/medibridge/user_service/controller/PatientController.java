@@ -1,12 +1,17 @@
 package com.medibridge.user_service.controller;
 
+import com.medibridge.user_service.dto.PatientProfileDTO;
 import com.medibridge.user_service.dto.request.UserRegistrationRequest;
 import com.medibridge.user_service.dto.response.ApiResponse;
 import com.medibridge.user_service.dto.response.UserResponseDTO;
+import com.medibridge.user_service.service.PatientProfileService;
 import com.medibridge.user_service.service.UserService;
+import com.medibridge.user_service.util.EntityTagUtil;
+import com.medibridge.user_service.util.SparseFieldset;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -26,17 +31,46 @@ import java.util.UUID;
 public class PatientController {
 
     private final UserService userService;
+    private final PatientProfileService patientProfileService;
 
     /**
      * Get patient profile
      */
     @GetMapping("/{patientId}")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> getPatientProfile(@PathVariable UUID patientId) {
+    public ResponseEntity<ApiResponse<UserResponseDTO>> getPatientProfile(
+            @PathVariable UUID patientId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("REST: Getting patient profile - patientId={}", patientId);
 
-        UserResponseDTO patient = userService.getUserById(patientId);
+        SparseFieldset selection = SparseFieldset.parse(fields, UserResponseDTO.class);
+
+        return EntityTagUtil.conditionalGet(ifNoneMatch,
+                () -> userService.getUserEntityTag(patientId, selection).orElse(null),
+                () -> userService.getUserById(patientId, selection),
+                patient -> EntityTagUtil.of(patientId, patient, selection),
+                patient -> ApiResponse.success(patient, "Patient profile retrieved"));
+    }
+
+    /**
+     * Get patient profile details (supports ?fields= for a sparse response)
+     * Patients may only read their own profile; doctors and admins may read any
+     */
+    @GetMapping("/{patientId}/profile")
+    @PreAuthorize("(hasRole('PATIENT') and #patientId == principal.id) or hasRole('DOCTOR') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PatientProfileDTO>> getPatientProfileDetails(
+            @PathVariable UUID patientId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("REST: Getting patient profile details - patientId={}", patientId);
+
+        SparseFieldset selection = SparseFieldset.parse(fields, PatientProfileDTO.class);
 
-        return ResponseEntity.ok(ApiResponse.success(patient, "Patient profile retrieved"));
+        return EntityTagUtil.conditionalGet(ifNoneMatch,
+                () -> patientProfileService.getProfileEntityTag(patientId, selection).orElse(null),
+                () -> patientProfileService.getPatientProfileDTO(patientId, selection),
+                profile -> EntityTagUtil.ofProfile(patientId, profile.getVersion(), selection),
+                profile -> ApiResponse.success(profile, "Patient profile details retrieved"));
     }
 
     /**
@@ -58,13 +92,16 @@ public class PatientController {
     @PutMapping("/{patientId}")
     public ResponseEntity<ApiResponse<UserResponseDTO>> updatePatientProfile(
             @PathVariable UUID patientId,
-            @Valid @RequestBody UserRegistrationRequest request) {
+            @Valid @RequestBody UserRegistrationRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Updating patient profile - patientId={}", patientId);
 
         // Update user information
-        UserResponseDTO updated = userService.updateUserProfile(patientId, request);
+        UserResponseDTO updated = userService.updateUserProfile(patientId, request, EntityTagUtil.parseVersion(ifMatch, patientId));
 
-        return ResponseEntity.ok(ApiResponse.success(updated, "Patient profile updated"));
+        return ResponseEntity.ok()
+                .eTag(EntityTagUtil.of(updated))
+                .body(ApiResponse.success(updated, "Patient profile updated"));
     }
 
     /**
@@ -1,12 +1,18 @@
 package com.medibridge.user_service.controller;
 
 import com.medibridge.user_service.dto.ApiResponse;
+import com.medibridge.user_service.dto.request.UserBatchRequest;
 import com.medibridge.user_service.dto.request.UserRegistrationRequest;
+import com.medibridge.user_service.dto.request.UsernameBatchRequest;
+import com.medibridge.user_service.dto.response.UserBatchResponse;
 import com.medibridge.user_service.dto.response.UserResponseDTO;
 import com.medibridge.user_service.service.UserService;
+import com.medibridge.user_service.util.EntityTagUtil;
+import com.medibridge.user_service.util.SparseFieldset;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -44,10 +51,17 @@ public class UserController {
      */
     @GetMapping("/patients/{patientId}")
     @PreAuthorize("hasRole('PATIENT') or hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> getPatientProfile(@PathVariable UUID patientId) {
+    public ResponseEntity<ApiResponse<UserResponseDTO>> getPatientProfile(
+            @PathVariable UUID patientId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("REST: Getting patient profile - patientId={}", patientId);
-        UserResponseDTO patient = userService.getUserById(patientId);
-        return ResponseEntity.ok(ApiResponse.success(patient, "Patient profile retrieved successfully"));
+        SparseFieldset selection = SparseFieldset.parse(fields, UserResponseDTO.class);
+        return EntityTagUtil.conditionalGet(ifNoneMatch,
+                () -> userService.getUserEntityTag(patientId, selection).orElse(null),
+                () -> userService.getUserById(patientId, selection),
+                patient -> EntityTagUtil.of(patientId, patient, selection),
+                patient -> ApiResponse.success(patient, "Patient profile retrieved successfully"));
     }
 
     /**
@@ -58,10 +72,13 @@ public class UserController {
     @PreAuthorize("hasRole('PATIENT') or hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<UserResponseDTO>> updatePatientProfile(
             @PathVariable UUID patientId,
-            @Valid @RequestBody UserRegistrationRequest request) {
+            @Valid @RequestBody UserRegistrationRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Updating patient profile - patientId={}", patientId);
-        UserResponseDTO updated = userService.updateUserProfile(patientId, request);
-        return ResponseEntity.ok(ApiResponse.success(updated, "Patient profile updated successfully"));
+        UserResponseDTO updated = userService.updateUserProfile(patientId, request, EntityTagUtil.parseVersion(ifMatch, patientId));
+        return ResponseEntity.ok()
+                .eTag(EntityTagUtil.of(updated))
+                .body(ApiResponse.success(updated, "Patient profile updated successfully"));
     }
 
     /**
@@ -175,10 +192,17 @@ public class UserController {
      */
     @GetMapping("/doctors/{doctorId}")
     @PreAuthorize("permitAll()")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> getDoctorProfile(@PathVariable UUID doctorId) {
+    public ResponseEntity<ApiResponse<UserResponseDTO>> getDoctorProfile(
+            @PathVariable UUID doctorId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("REST: Getting doctor profile - doctorId={}", doctorId);
-        UserResponseDTO doctor = userService.getUserById(doctorId);
-        return ResponseEntity.ok(ApiResponse.success(doctor, "Doctor profile retrieved successfully"));
+        SparseFieldset selection = SparseFieldset.parse(fields, UserResponseDTO.class);
+        return EntityTagUtil.conditionalGet(ifNoneMatch,
+                () -> userService.getUserEntityTag(doctorId, selection).orElse(null),
+                () -> userService.getUserById(doctorId, selection),
+                doctor -> EntityTagUtil.of(doctorId, doctor, selection),
+                doctor -> ApiResponse.success(doctor, "Doctor profile retrieved successfully"));
     }
 
     /**
@@ -189,10 +213,13 @@ public class UserController {
     @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<UserResponseDTO>> updateDoctorProfile(
             @PathVariable UUID doctorId,
-            @Valid @RequestBody UserRegistrationRequest request) {
+            @Valid @RequestBody UserRegistrationRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Updating doctor profile - doctorId={}", doctorId);
-        UserResponseDTO updated = userService.updateUserProfile(doctorId, request);
-        return ResponseEntity.ok(ApiResponse.success(updated, "Doctor profile updated successfully"));
+        UserResponseDTO updated = userService.updateUserProfile(doctorId, request, EntityTagUtil.parseVersion(ifMatch, doctorId));
+        return ResponseEntity.ok()
+                .eTag(EntityTagUtil.of(updated))
+                .body(ApiResponse.success(updated, "Doctor profile updated successfully"));
     }
 
     /**
@@ -403,9 +430,10 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
         log.info("REST: Getting all users - page={}, size={}", page, size);
-        List<UserResponseDTO> users = userService.getAllUsers();
+        List<UserResponseDTO> users = userService.getAllUsers(SparseFieldset.parse(fields, UserResponseDTO.class));
         Map<String, Object> response = new HashMap<>();
         response.put("users", users);
         response.put("total", users.size());
@@ -420,10 +448,42 @@ public class UserController {
      */
     @GetMapping("/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<UserResponseDTO>> getUserById(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<UserResponseDTO>> getUserById(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("REST: Getting user by ID - userId={}", userId);
-        UserResponseDTO user = userService.getUserById(userId);
-        return ResponseEntity.ok(ApiResponse.success(user, "User fetched successfully"));
+        SparseFieldset selection = SparseFieldset.parse(fields, UserResponseDTO.class);
+        return EntityTagUtil.conditionalGet(ifNoneMatch,
+                () -> userService.getUserEntityTag(userId, selection).orElse(null),
+                () -> userService.getUserById(userId, selection),
+                user -> EntityTagUtil.of(userId, user, selection),
+                user -> ApiResponse.success(user, "User fetched successfully"));
+    }
+
+    /**
+     * Batch user lookup by ID (for other services rendering lists of users)
+     * POST /api/v1/users/batch
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<UserBatchResponse>> getUsersByIds(@Valid @RequestBody UserBatchRequest request) {
+        log.info("REST: Batch user lookup by ID - count={}", request.getIds().size());
+        UserBatchResponse users = userService.getUsersByIds(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success(users, "Users fetched successfully"));
+    }
+
+    /**
+     * Batch user lookup by username (for other services)
+     * POST /api/v1/users/batch/usernames
+     */
+    @PostMapping("/batch/usernames")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<UserBatchResponse>> getUsersByUsernames(
+            @Valid @RequestBody UsernameBatchRequest request) {
+        log.info("REST: Batch user lookup by username - count={}", request.getUsernames().size());
+        UserBatchResponse users = userService.getUsersByUsernames(request.getUsernames());
+        return ResponseEntity.ok(ApiResponse.success(users, "Users fetched successfully"));
     }
 
     /**
@@ -458,9 +518,10 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getAllDoctors(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
         log.info("REST: Getting all doctors - page={}, size={}", page, size);
-        List<UserResponseDTO> doctors = userService.getAllDoctors();
+        List<UserResponseDTO> doctors = userService.getAllDoctors(SparseFieldset.parse(fields, UserResponseDTO.class));
         Map<String, Object> response = new HashMap<>();
         response.put("doctors", doctors);
         response.put("total", doctors.size());
@@ -477,9 +538,10 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getAllPatients(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
         log.info("REST: Getting all patients - page={}, size={}", page, size);
-        List<UserResponseDTO> patients = userService.getAllPatients();
+        List<UserResponseDTO> patients = userService.getAllPatients(SparseFieldset.parse(fields, UserResponseDTO.class));
         Map<String, Object> response = new HashMap<>();
         response.put("patients", patients);
         response.put("total", patients.size());
@@ -494,9 +556,11 @@ public class UserController {
      */
     @PutMapping("/{userId}/activate")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> activateUser(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> activateUser(
+            @PathVariable UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Activating user - userId={}", userId);
-        userService.activateUser(userId);
+        userService.activateUser(userId, EntityTagUtil.parseVersion(ifMatch, userId));
         Map<String, Object> response = new HashMap<>();
         response.put("userId", userId);
         response.put("status", "ACTIVE");
@@ -524,9 +588,11 @@ public class UserController {
      */
     @PutMapping("/{userId}/lock")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> lockUser(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> lockUser(
+            @PathVariable UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("REST: Locking user account - userId={}", userId);
-        userService.lockUserAccount(userId);
+        userService.lockUserAccount(userId, EntityTagUtil.parseVersion(ifMatch, userId));
         Map<String, Object> response = new HashMap<>();
         response.put("userId", userId);
         response.put("locked", true);
@@ -7,6 +7,7 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -20,7 +21,7 @@ import java.util.UUID;
 public class AdminProfileDTO extends UserProfileDTO {
     private String department;
     private Integer accessLevel;
-    private String permissions;
+    private List<String> permissions;
     private String organizationCode;
     private String reportingManager;
     private String location;
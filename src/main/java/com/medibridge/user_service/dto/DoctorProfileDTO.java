@@ -1,11 +1,17 @@
 package com.medibridge.user_service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.util.List;
+
 /**
  * DTO for Doctor Profile containing enterprise-level doctor/healthcare provider
  * fields.
@@ -15,34 +21,43 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @SuperBuilder
 @EqualsAndHashCode(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class DoctorProfileDTO extends UserProfileDTO {
+    @Size(max = 255, message = "First name must be maximum 255 characters")
     private String firstName;
+    @Size(max = 255, message = "Last name must be maximum 255 characters")
     private String lastName;
     private String licenseNumber;
     private String licenseIssuingBody;
     private Long licenseExpiryDate;
+    @Size(max = 255, message = "Specialization must be maximum 255 characters")
     private String specialization;
     private String medicalRegistration;
     private String npiNumber;
+    @Size(max = 255, message = "Department must be maximum 255 characters")
     private String department;
-    private String qualifications;
+    private List<String> qualifications;
+    @Size(max = 255, message = "Clinic address must be maximum 255 characters")
     private String clinicAddress;
     private String clinicPhoneNumber;
     private String consultationHours;
     private Boolean availabilityScheduleActive;
     private String availabilitySchedule;
+    @Positive(message = "Maximum patients per day must be positive")
     private Integer maxPatientsPerDay;
     private Integer consultationDurationMinutes;
+    @PositiveOrZero(message = "Consultation fee must not be negative")
     private Double consultationFee;
-    private String boardCertifications;
+    private List<String> boardCertifications;
     private Long yearsOfExperience;
-    private String languages;
+    private List<String> languages;
     private Boolean verificationStatus;
     private Long verificationDate;
     private String verifiedBy;
     private Boolean isAcceptingNewPatients;
+    @Size(max = 255, message = "Office location must be maximum 255 characters")
     private String officeLocation;
-    private String affiliatedHospitals;
+    private List<String> affiliatedHospitals;
     private Double averageRating;
     private Integer totalConsultations;
 }
@@ -6,6 +6,8 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.util.List;
+
 /**
  * Doctor registration request with doctor-specific profile fields.
  */
@@ -24,18 +26,18 @@ public class DoctorRegisterRequest extends RegisterRequest {
     private String medicalRegistration;
     private String npiNumber;
     private String department;
-    private String qualifications;
+    private List<String> qualifications;
     private String clinicAddress;
     private String clinicPhoneNumber;
     private String consultationHours;
     private Integer maxPatientsPerDay;
     private Integer consultationDurationMinutes;
     private Double consultationFee;
-    private String boardCertifications;
+    private List<String> boardCertifications;
     private Long yearsOfExperience;
-    private String languages;
+    private List<String> languages;
     @lombok.Builder.Default
     private Boolean isAcceptingNewPatients = true;
     private String officeLocation;
-    private String affiliatedHospitals;
+    private List<String> affiliatedHospitals;
 }
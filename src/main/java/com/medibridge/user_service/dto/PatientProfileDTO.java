@@ -1,11 +1,15 @@
 package com.medibridge.user_service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * DTO for Patient Profile containing enterprise-level patient/user fields.
  */
@@ -14,6 +18,7 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @SuperBuilder
 @EqualsAndHashCode(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PatientProfileDTO extends UserProfileDTO {
     private String firstName;
     private String lastName;
@@ -44,7 +49,7 @@ public class PatientProfileDTO extends UserProfileDTO {
     private Boolean notificationsEnabled;
     private String communicationPreference;
     private Long lastConsultationDate;
-    private String preferredDoctorIds;
+    private List<UUID> preferredDoctorIds;
     private Boolean gdprConsent;
     private Boolean termsAndConditionsAccepted;
     private Boolean privacyPolicyAccepted;
@@ -1,5 +1,6 @@
 package com.medibridge.user_service.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.medibridge.user_service.entity.AccountStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,5 +23,11 @@ public class UserProfileDTO {
     protected AccountStatus status;
     protected Long createdAt;
     protected Long updatedAt;
+
+    /**
+     * Optimistic locking version (exposed through the ETag header only)
+     */
+    @JsonIgnore
+    protected Long version;
 }
 
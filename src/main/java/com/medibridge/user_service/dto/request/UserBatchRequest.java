@@ -0,0 +1,23 @@
+package com.medibridge.user_service.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for batch user lookup by ID
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchRequest {
+
+    @NotEmpty(message = "At least one user ID is required")
+    private List<UUID> ids;
+}
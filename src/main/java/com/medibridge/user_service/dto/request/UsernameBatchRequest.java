@@ -0,0 +1,22 @@
+package com.medibridge.user_service.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for batch user lookup by username
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsernameBatchRequest {
+
+    @NotEmpty(message = "At least one username is required")
+    private List<String> usernames;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.time.Clock;
 import java.time.LocalDateTime;
 
 /**
@@ -24,6 +25,11 @@ public class ApiResponse<T> implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Resolved once: LocalDateTime.now() looks up (and clones) the default time zone on every call
+     */
+    private static final Clock CLOCK = Clock.systemDefaultZone();
+
     /**
      * HTTP status code (200, 201, 400, 404, 500, etc.)
      */
@@ -48,7 +54,7 @@ public class ApiResponse<T> implements Serializable {
      * Timestamp of the response
      */
     @Builder.Default
-    private LocalDateTime timestamp = LocalDateTime.now();
+    private LocalDateTime timestamp = LocalDateTime.now(CLOCK);
 
     /**
      * Error code (only for error responses)
@@ -68,7 +74,7 @@ public class ApiResponse<T> implements Serializable {
                 .status(200)
                 .message(message)
                 .data(data)
-                .timestamp(LocalDateTime.now())
+                .timestamp(LocalDateTime.now(CLOCK))
                 .build();
     }
 
@@ -80,7 +86,7 @@ public class ApiResponse<T> implements Serializable {
                 .status(status)
                 .message(message)
                 .data(data)
-                .timestamp(LocalDateTime.now())
+                .timestamp(LocalDateTime.now(CLOCK))
                 .build();
     }
 
@@ -92,7 +98,7 @@ public class ApiResponse<T> implements Serializable {
                 .status(status)
                 .message(message)
                 .errorCode(errorCode)
-                .timestamp(LocalDateTime.now())
+                .timestamp(LocalDateTime.now(CLOCK))
                 .build();
     }
 
@@ -105,7 +111,7 @@ public class ApiResponse<T> implements Serializable {
                 .message(message)
                 .errorCode(errorCode)
                 .path(path)
-                .timestamp(LocalDateTime.now())
+                .timestamp(LocalDateTime.now(CLOCK))
                 .build();
     }
 
@@ -113,7 +119,7 @@ public class ApiResponse<T> implements Serializable {
         return ApiResponse.<T>builder()
                 .status(500)
                 .message(message)
-                .timestamp(LocalDateTime.now())
+                .timestamp(LocalDateTime.now(CLOCK))
                 .build();
     }
 }
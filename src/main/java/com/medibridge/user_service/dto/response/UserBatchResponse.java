@@ -0,0 +1,39 @@
+package com.medibridge.user_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for batch user lookup results
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserBatchResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Users that were found, in request order
+     */
+    private List<UserResponseDTO> users;
+
+    /**
+     * Requested IDs that do not exist (ID lookups only)
+     */
+    private List<UUID> missingIds;
+
+    /**
+     * Requested usernames that do not exist (username lookups only)
+     */
+    private List<String> missingUsernames;
+}
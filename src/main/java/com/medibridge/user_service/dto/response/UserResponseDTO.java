@@ -1,5 +1,6 @@
 package com.medibridge.user_service.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.medibridge.user_service.entity.Role;
 import lombok.AllArgsConstructor;
@@ -82,5 +83,17 @@ public class UserResponseDTO implements Serializable {
      * User profile (if available)
      */
     private UserProfileDTO profile;
+
+    /**
+     * Optimistic locking version (exposed through the ETag header only)
+     */
+    @JsonIgnore
+    private Long version;
+
+    /**
+     * Optimistic locking version of the profile, part of the full representation's ETag
+     */
+    @JsonIgnore
+    private Long profileVersion;
 }
 
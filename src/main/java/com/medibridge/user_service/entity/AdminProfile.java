@@ -1,5 +1,8 @@
 package com.medibridge.user_service.entity;
 
+import com.medibridge.user_service.entity.converter.StringListConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 import lombok.AllArgsConstructor;
@@ -8,6 +11,8 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.util.List;
+
 /**
  * Admin user profile entity.
  * Contains enterprise-level admin-specific fields.
@@ -25,7 +30,9 @@ public class AdminProfile extends UserProfile {
 
     private Integer accessLevel; // Access level (1-5: 1=lowest, 5=highest)
 
-    private String permissions; // Comma-separated permissions or JSON string
+    @Convert(converter = StringListConverter.class)
+    @Column(columnDefinition = "JSON")
+    private List<String> permissions; // Granted permissions
 
     private String organizationCode; // Organization/Company code
 
@@ -1,5 +1,8 @@
 package com.medibridge.user_service.entity;
 
+import com.medibridge.user_service.entity.converter.StringListConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 import lombok.AllArgsConstructor;
@@ -8,6 +11,8 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.util.List;
+
 /**
  * Doctor user profile entity.
  * Contains enterprise-level doctor/healthcare provider specific fields.
@@ -39,19 +44,13 @@ public class DoctorProfile extends UserProfile {
 
     private String department; // Hospital/Clinic department
 
-    private String qualifications; // Educational qualifications (JSON or comma-separated)
-
     private String clinicAddress; // Primary clinic/hospital address
 
     private String clinicPhoneNumber; // Clinic contact number
 
-    private String consultationHours; // JSON object with day-wise consultation hours
-
     @lombok.Builder.Default
     private Boolean availabilityScheduleActive = false; // Whether availability schedule is active
 
-    private String availabilitySchedule; // JSON object with availability details
-
     private Integer maxPatientsPerDay; // Maximum patients per day
 
     @lombok.Builder.Default
@@ -59,11 +58,15 @@ public class DoctorProfile extends UserProfile {
 
     private Double consultationFee; // Consultation fee
 
-    private String boardCertifications; // Board certifications (JSON or comma-separated)
+    @Convert(converter = StringListConverter.class)
+    @Column(columnDefinition = "JSON")
+    private List<String> boardCertifications; // Board certifications
 
     private Long yearsOfExperience; // Years in medical practice
 
-    private String languages; // Languages spoken (comma-separated)
+    @Convert(converter = StringListConverter.class)
+    @Column(columnDefinition = "JSON")
+    private List<String> languages; // Languages spoken, indexed for language search on MySQL
 
     @lombok.Builder.Default
     private Boolean verificationStatus = false; // Doctor verification status
@@ -77,10 +80,38 @@ public class DoctorProfile extends UserProfile {
 
     private String officeLocation; // Office/clinic location
 
-    private String affiliatedHospitals; // Affiliated hospitals (JSON or comma-separated)
+    @Convert(converter = StringListConverter.class)
+    @Column(columnDefinition = "JSON")
+    private List<String> affiliatedHospitals; // Affiliated hospitals, indexed for hospital search on MySQL
 
     private Double averageRating; // Average patient rating
 
     @lombok.Builder.Default
     private Integer totalConsultations = 0; // Total number of consultations
+
+    // Schedules and qualifications live in ProfileDetails, read only for the full doctor profile
+
+    public List<String> getQualifications() {
+        return readDetail(ProfileDetails::getQualifications);
+    }
+
+    public void setQualifications(List<String> qualifications) {
+        writeDetail(ProfileDetails::setQualifications, qualifications);
+    }
+
+    public String getConsultationHours() {
+        return readDetail(ProfileDetails::getConsultationHours);
+    }
+
+    public void setConsultationHours(String consultationHours) {
+        writeDetail(ProfileDetails::setConsultationHours, consultationHours);
+    }
+
+    public String getAvailabilitySchedule() {
+        return readDetail(ProfileDetails::getAvailabilitySchedule);
+    }
+
+    public void setAvailabilitySchedule(String availabilitySchedule) {
+        writeDetail(ProfileDetails::setAvailabilitySchedule, availabilitySchedule);
+    }
 }
@@ -1,5 +1,8 @@
 package com.medibridge.user_service.entity;
 
+import com.medibridge.user_service.entity.converter.UuidListConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 import lombok.AllArgsConstructor;
@@ -8,6 +11,9 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Patient/User profile entity.
  * Contains enterprise-level patient/general user specific fields.
@@ -54,12 +60,6 @@ public class PatientProfile extends UserProfile {
     @lombok.Builder.Default
     private Boolean medicalHistoryAccessGranted = false; // Permission to share medical history
 
-    private String medicalConditions; // Comma-separated or JSON array of conditions
-
-    private String allergies; // Comma-separated or JSON array of allergies
-
-    private String currentMedications; // JSON array of current medications
-
     private String emergencyContactName; // Primary emergency contact name
 
     private String emergencyContactPhone; // Primary emergency contact number
@@ -81,7 +81,9 @@ public class PatientProfile extends UserProfile {
 
     private Long lastConsultationDate; // Timestamp of last consultation
 
-    private String preferredDoctorIds; // Comma-separated or JSON array of preferred doctor IDs
+    @Convert(converter = UuidListConverter.class)
+    @Column(columnDefinition = "JSON")
+    private List<UUID> preferredDoctorIds; // Preferred doctors' user IDs, indexed on MySQL
 
     @lombok.Builder.Default
     private Boolean gdprConsent = false; // GDPR compliance consent
@@ -98,4 +100,30 @@ public class PatientProfile extends UserProfile {
 
     @lombok.Builder.Default
     private Boolean twoFactorAuthenticationEnabled = false; // 2FA status
+
+    // Free-text medical fields live in ProfileDetails, read only for the full patient profile
+
+    public String getMedicalConditions() {
+        return readDetail(ProfileDetails::getMedicalConditions);
+    }
+
+    public void setMedicalConditions(String medicalConditions) {
+        writeDetail(ProfileDetails::setMedicalConditions, medicalConditions);
+    }
+
+    public String getAllergies() {
+        return readDetail(ProfileDetails::getAllergies);
+    }
+
+    public void setAllergies(String allergies) {
+        writeDetail(ProfileDetails::setAllergies, allergies);
+    }
+
+    public String getCurrentMedications() {
+        return readDetail(ProfileDetails::getCurrentMedications);
+    }
+
+    public void setCurrentMedications(String currentMedications) {
+        writeDetail(ProfileDetails::setCurrentMedications, currentMedications);
+    }
 }
@@ -0,0 +1,53 @@
+package com.medibridge.user_service.entity;
+
+import com.medibridge.user_service.entity.converter.StringListConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rarely read, wide profile columns kept out of the user_profiles row.
+ * Loaded lazily through {@link UserProfile#getDetails()}; profiles without any of these values have no row.
+ * Like user_profiles it is shared by all profile types, each using only its own columns.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_profile_details")
+public class ProfileDetails {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String additionalInfo; // JSON field for future extensibility
+
+    // PatientProfile
+    @Column(columnDefinition = "TEXT")
+    private String medicalConditions; // Comma-separated or JSON array of conditions
+
+    @Column(columnDefinition = "TEXT")
+    private String allergies; // Comma-separated or JSON array of allergies
+
+    @Column(columnDefinition = "TEXT")
+    private String currentMedications; // JSON array of current medications
+
+    // DoctorProfile
+    @Convert(converter = StringListConverter.class)
+    @Column(columnDefinition = "JSON")
+    private List<String> qualifications; // Educational qualifications
+
+    @Column(columnDefinition = "TEXT")
+    private String consultationHours; // JSON object with day-wise consultation hours
+
+    @Column(columnDefinition = "TEXT")
+    private String availabilitySchedule; // JSON object with availability details
+}
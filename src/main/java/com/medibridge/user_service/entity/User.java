@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,6 +21,8 @@ import java.util.UUID;
 /**
  * User domain entity - Aggregate Root in DDD
  * Represents a user in the MediBridge system with authentication capabilities.
+ * Soft-deleted users are invisible to every entity query and association; only native
+ * SQL (uniqueness checks, UserArchivalService) still sees them until they are archived.
  */
 @Data
 @SuperBuilder
@@ -30,9 +33,13 @@ import java.util.UUID;
 @Table(name = "users", indexes = {
     @Index(name = "idx_username", columnList = "username", unique = true),
     @Index(name = "idx_email", columnList = "email", unique = true),
-    @Index(name = "idx_is_active", columnList = "is_active"),
-    @Index(name = "idx_is_deleted", columnList = "is_deleted")
+    @Index(name = "idx_users_role_deleted", columnList = "role, is_deleted"),
+    @Index(name = "idx_users_role_active", columnList = "role, is_active"),
+    @Index(name = "idx_users_active_deleted", columnList = "is_active, is_deleted"),
+    @Index(name = "idx_users_deleted_last_login", columnList = "is_deleted, last_login_at"),
+    @Index(name = "idx_users_deleted_at", columnList = "is_deleted, deleted_at")
 })
+@SQLRestriction("is_deleted = 0")
 public class User extends AuditableEntity implements UserDetails {
 
     private static final long serialVersionUID = 1L;
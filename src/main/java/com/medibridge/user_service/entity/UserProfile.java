@@ -4,19 +4,34 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
 @Entity
-@Table(name = "user_profiles")
+@Table(name = "user_profiles", indexes = {
+    @Index(name = "idx_profiles_specialization", columnList = "profile_type, specialization, verification_status, average_rating"),
+    @Index(name = "idx_profiles_department", columnList = "profile_type, department, verification_status, average_rating"),
+    @Index(name = "idx_profiles_verification", columnList = "profile_type, verification_status, average_rating"),
+    @Index(name = "idx_profiles_accepting", columnList = "profile_type, is_accepting_new_patients"),
+    @Index(name = "idx_profiles_blood_group", columnList = "profile_type, blood_group"),
+    @Index(name = "idx_profiles_license_number", columnList = "license_number"),
+    @Index(name = "idx_profiles_npi_number", columnList = "npi_number"),
+    @Index(name = "idx_profiles_insurance_policy", columnList = "insurance_policy_number")
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "profile_type", discriminatorType = DiscriminatorType.STRING)
+@SQLRestriction("is_deleted = 0")
 public abstract class UserProfile {
 
     @Id
@@ -30,8 +45,18 @@ public abstract class UserProfile {
     @Column(nullable = false)
     private AccountStatus status; // ACTIVE, INACTIVE, SUSPENDED
 
-    @Column(columnDefinition = "LONGTEXT")
-    private String additionalInfo; // JSON field for future extensibility
+    @Column(name = "is_deleted", nullable = false)
+    @Builder.Default
+    private Boolean isDeleted = false; // Copy of the user's soft delete flag, so profile queries can filter on it
+
+    /**
+     * Cold, wide columns in a side table, loaded on first access; null until one of them is set
+     */
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "details_id", unique = true)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ProfileDetails details;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
@@ -41,8 +66,41 @@ public abstract class UserProfile {
     @Builder.Default
     private Long updatedAt = System.currentTimeMillis();
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long version = 0L; // Optimistic locking version
+
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = System.currentTimeMillis();
     }
+
+    public String getAdditionalInfo() {
+        return readDetail(ProfileDetails::getAdditionalInfo);
+    }
+
+    public void setAdditionalInfo(String additionalInfo) {
+        writeDetail(ProfileDetails::setAdditionalInfo, additionalInfo);
+    }
+
+    /**
+     * Read a cold column; returns null without touching the side table when the profile has none
+     */
+    protected <T> T readDetail(Function<ProfileDetails, T> getter) {
+        return details == null ? null : getter.apply(details);
+    }
+
+    /**
+     * Write a cold column, creating the side row on the first non-null value
+     */
+    protected <T> void writeDetail(BiConsumer<ProfileDetails, T> setter, T value) {
+        if (details == null) {
+            if (value == null) {
+                return;
+            }
+            details = new ProfileDetails();
+        }
+        setter.accept(details, value);
+    }
 }
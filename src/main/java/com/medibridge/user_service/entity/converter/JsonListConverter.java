@@ -0,0 +1,32 @@
+package com.medibridge.user_service.entity.converter;
+
+import jakarta.persistence.AttributeConverter;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * Maps a list attribute to a JSON array column.
+ * Empty lists are stored as NULL, like the comma-separated strings these columns used to hold.
+ */
+public abstract class JsonListConverter<T> implements AttributeConverter<List<T>, String> {
+
+    private static final JsonMapper MAPPER = JsonMapper.shared();
+
+    private final JavaType listType;
+
+    protected JsonListConverter(Class<T> elementType) {
+        this.listType = MAPPER.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    @Override
+    public String convertToDatabaseColumn(List<T> values) {
+        return values == null || values.isEmpty() ? null : MAPPER.writeValueAsString(values);
+    }
+
+    @Override
+    public List<T> convertToEntityAttribute(String json) {
+        return json == null ? null : MAPPER.readValue(json, listType);
+    }
+}
@@ -0,0 +1,14 @@
+package com.medibridge.user_service.entity.converter;
+
+import jakarta.persistence.Converter;
+
+/**
+ * JSON array of strings, e.g. ["Sinhala","English"]
+ */
+@Converter
+public class StringListConverter extends JsonListConverter<String> {
+
+    public StringListConverter() {
+        super(String.class);
+    }
+}
@@ -0,0 +1,16 @@
+package com.medibridge.user_service.entity.converter;
+
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * JSON array of UUIDs in their canonical string form
+ */
+@Converter
+public class UuidListConverter extends JsonListConverter<UUID> {
+
+    public UuidListConverter() {
+        super(UUID.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.medibridge.user_service.exception;
 import com.medibridge.user_service.dto.response.ApiResponse;
 import com.medibridge.user_service.util.CorrelationIdUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -141,6 +142,27 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handle database unavailability (pool exhausted, JDBC bulkhead full, connection failures)
+     */
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handleDataAccessResourceFailure(
+            DataAccessResourceFailureException ex, WebRequest request) {
+
+        log.warn("Database unavailable - Message: {}, CorrelationId: {}",
+                ex.getMessage(), CorrelationIdUtil.getCorrelationId());
+
+        ApiResponse<Object> response = ApiResponse.error(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service is temporarily overloaded. Please retry.",
+                "SERVICE_UNAVAILABLE",
+                request.getDescription(false).replace("uri=", "")
+        );
+        response.setCorrelationId(CorrelationIdUtil.getCorrelationId());
+
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handle generic exceptions
      */
@@ -0,0 +1,24 @@
+package com.medibridge.user_service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a conditional request (If-Match) no longer matches
+ * the current version of a resource.
+ */
+public class PreconditionFailedException extends MediBridgeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PreconditionFailedException(String message) {
+        super(message, "PRECONDITION_FAILED", HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    public PreconditionFailedException(String resourceName, Object id, Long expectedVersion) {
+        super(
+            String.format("%s '%s' has been modified since version %d", resourceName, id, expectedVersion),
+            "PRECONDITION_FAILED",
+            HttpStatus.PRECONDITION_FAILED.value()
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package com.medibridge.user_service.filter;
+
+import com.medibridge.user_service.dto.response.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+
+/**
+ * Rejects excess load with 503 before it reaches the rest of the filter chain.
+ * Runs ahead of security so shed requests cost almost nothing; only the correlation ID
+ * and the access log, which must record the 503, run before it.
+ *
+ * Limits are partitioned: /api/v1/users/auth/** (BCrypt-heavy) has its own limit and
+ * cannot consume the capacity of profile reads and other API calls.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/api/v1/users/auth/";
+    private static final String ACTUATOR_PATH_PREFIX = "/actuator";
+
+    private final GradientConcurrencyLimit authLimit;
+    private final GradientConcurrencyLimit apiLimit;
+    private final JsonMapper jsonMapper;
+    private final boolean enabled;
+
+    public ConcurrencyLimitFilter(
+            JsonMapper jsonMapper,
+            @Value("${application.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${application.concurrency-limit.window-ms:500}") long windowMs,
+            @Value("${application.concurrency-limit.auth.initial:8}") int authInitial,
+            @Value("${application.concurrency-limit.auth.min:2}") int authMin,
+            @Value("${application.concurrency-limit.auth.max:32}") int authMax,
+            @Value("${application.concurrency-limit.api.initial:20}") int apiInitial,
+            @Value("${application.concurrency-limit.api.min:5}") int apiMin,
+            @Value("${application.concurrency-limit.api.max:200}") int apiMax) {
+        this.jsonMapper = jsonMapper;
+        this.enabled = enabled;
+        this.authLimit = new GradientConcurrencyLimit("auth", authInitial, authMin, authMax, windowMs);
+        this.apiLimit = new GradientConcurrencyLimit("api", apiInitial, apiMin, apiMax, windowMs);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Health probes must keep answering under overload
+        return !enabled || request.getRequestURI().startsWith(ACTUATOR_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        GradientConcurrencyLimit limit = partitionFor(request);
+        if (!limit.tryAcquire()) {
+            reject(request, response, limit);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Current limits, for diagnostics
+     */
+    public GradientConcurrencyLimit getAuthLimit() {
+        return authLimit;
+    }
+
+    public GradientConcurrencyLimit getApiLimit() {
+        return apiLimit;
+    }
+
+    private GradientConcurrencyLimit partitionFor(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(AUTH_PATH_PREFIX) ? authLimit : apiLimit;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, GradientConcurrencyLimit limit)
+            throws IOException {
+        log.warn("Concurrency limit reached - partition={}, limit={}, inFlight={}, path={}",
+                limit.getName(), limit.getLimit(), limit.getInFlight(), request.getRequestURI());
+
+        ApiResponse<Object> body = ApiResponse.error(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service is temporarily overloaded. Please retry.",
+                "SERVICE_OVERLOADED",
+                request.getRequestURI());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), body);
+    }
+}
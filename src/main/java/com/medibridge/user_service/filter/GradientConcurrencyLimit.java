@@ -0,0 +1,144 @@
+package com.medibridge.user_service.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive concurrency limit using a gradient (Vegas-style) algorithm.
+ *
+ * The limit tracks the ratio between the long-term (no-load) latency and the latency of the
+ * most recent sample window. When latency rises above the baseline, the gradient drops below 1
+ * and the limit shrinks; when latency is at baseline the limit grows by a small queue allowance.
+ * Requests beyond the limit are rejected instead of queued.
+ */
+public class GradientConcurrencyLimit {
+
+    /**
+     * Latency ratio tolerated before the limit starts shrinking
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * Weight of a new limit estimate against the current one
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * Number of sample windows averaged into the long-term latency
+     */
+    private static final int LONG_WINDOW = 60;
+
+    private static final int MIN_SAMPLES_PER_WINDOW = 10;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile double limit;
+    private volatile long windowStart = System.nanoTime();
+    private double longRttNanos;
+
+    public GradientConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit, long windowMillis) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.windowNanos = windowMillis * 1_000_000L;
+    }
+
+    /**
+     * Try to admit a request.
+     * @return true if admitted; the caller must then call {@link #release(long)}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request and record its latency.
+     * @param rttNanos time the request spent in the service
+     */
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+
+        long now = System.nanoTime();
+        if (now - windowStart >= windowNanos && updateLock.tryLock()) {
+            try {
+                if (now - windowStart >= windowNanos) {
+                    update(now);
+                }
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    private void update(long now) {
+        long samples = windowSamples.sumThenReset();
+        long rttSum = windowRttNanos.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        windowStart = now;
+
+        if (samples < MIN_SAMPLES_PER_WINDOW) {
+            return;
+        }
+        double shortRtt = (double) rttSum / samples;
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+            return;
+        }
+        longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOW;
+        // Let the baseline recover quickly after a sustained slowdown has ended
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos = shortRtt * 2;
+        }
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+        double queueAllowance = Math.max(1, Math.sqrt(current));
+        double estimate = current * gradient + queueAllowance;
+        // Don't grow the limit when traffic isn't using it, but still shrink it when latency rises
+        if (maxInFlight < current / 2) {
+            estimate = Math.min(estimate, current);
+        }
+        double smoothed = current * (1 - SMOOTHING) + estimate * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -1,6 +1,10 @@
 package com.medibridge.user_service.filter;
 
+import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.observability.jfr.TokenVerificationEvent;
+import com.medibridge.user_service.observability.jfr.UsernameHash;
 import com.medibridge.user_service.util.JwtUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +27,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -38,12 +43,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
         try {
             jwt = authHeader.substring(7);
             username = jwtUtils.extractUsername(jwt);
+            event.usernameHash = event.isEnabled() ? UsernameHash.of(username) : null;
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = meterRegistry.timer("medibridge.auth.user.load")
+                        .record(() -> this.userDetailsService.loadUserByUsername(username));
 
                 if (jwtUtils.isTokenValid(jwt, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -53,12 +62,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     authToken.setDetails(
                             new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    event.valid = true;
+                    if (userDetails instanceof User user && user.getRole() != null) {
+                        event.role = user.getRole().name();
+                    }
                 }
             }
         } catch (Exception e) {
             // Ignore errors (expired token, signature exception, user not found, etc.)
             // so that the request can proceed (potentially anonymously).
             // Authorization will be handled by SecurityFilterChain.
+        } finally {
+            event.commit();
         }
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,65 @@
+package com.medibridge.user_service.observability;
+
+import com.medibridge.user_service.observability.jfr.RepositoryCallEvent;
+import com.medibridge.user_service.observability.sql.SqlStatementContext;
+import com.medibridge.user_service.observability.sql.SqlStatementStats;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Adds an interceptor to every Spring Data repository proxy that
+ * - records the calling repository method, so slow statements can be attributed to it, and
+ * - emits a {@link RepositoryCallEvent} with the statements it ran when JFR has the event enabled.
+ */
+@Configuration
+public class RepositoryObservationConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    interceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor interceptor(String repository) {
+        return invocation -> {
+            String previous = SqlStatementContext.enterRepositoryMethod(
+                    repository + "." + invocation.getMethod().getName());
+            try {
+                RepositoryCallEvent event = new RepositoryCallEvent();
+                if (!event.isEnabled()) {
+                    return invocation.proceed();
+                }
+                SqlStatementStats stats = SqlStatementContext.open();
+                event.begin();
+                try {
+                    Object result = invocation.proceed();
+                    event.success = true;
+                    return result;
+                } finally {
+                    event.end();
+                    SqlStatementContext.close(stats);
+                    if (event.shouldCommit()) {
+                        event.repository = repository;
+                        event.method = invocation.getMethod().getName();
+                        event.statementCount = stats.getStatements();
+                        event.commit();
+                    }
+                }
+            } finally {
+                SqlStatementContext.exitRepositoryMethod(previous);
+            }
+        };
+    }
+}
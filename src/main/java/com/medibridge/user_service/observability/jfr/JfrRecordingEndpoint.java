@@ -0,0 +1,171 @@
+package com.medibridge.user_service.observability.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Actuator endpoint for on-demand JDK Flight Recorder profiling.
+ *
+ * POST   /actuator/jfr                 start a recording (durationSeconds, maxSizeMb, settings)
+ * GET    /actuator/jfr                 recording status
+ * DELETE /actuator/jfr                 stop the recording early
+ * GET    /actuator/jfr/recording.jfr   download the recording (a snapshot if still running)
+ *
+ * Only one recording runs at a time and duration and size are capped by configuration,
+ * so a forgotten recording cannot fill the disk. Access is restricted to admins in SecurityConfig.
+ */
+@Component
+@Endpoint(id = "jfr")
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private static final String FILE_NAME = "recording.jfr";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private Path destination;
+    private Path snapshot;
+
+    @Value("${application.jfr.max-duration-seconds:600}")
+    private long maxDurationSeconds;
+
+    @Value("${application.jfr.max-size-mb:200}")
+    private long maxSizeMb;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        lock.lock();
+        try {
+            return describe();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(@Nullable Long durationSeconds, @Nullable Long maxSizeMb,
+                                                          @Nullable String settings) throws IOException {
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                return new WebEndpointResponse<>(describe(), WebEndpointResponse.STATUS_BAD_REQUEST);
+            }
+            Configuration configuration;
+            try {
+                configuration = Configuration.getConfiguration(settings != null ? settings : "profile");
+            } catch (ParseException | IOException e) {
+                return new WebEndpointResponse<>(Map.of("error", "Unknown JFR settings: " + settings),
+                        WebEndpointResponse.STATUS_BAD_REQUEST);
+            }
+            closeCurrent();
+
+            long duration = Math.min(durationSeconds != null ? durationSeconds : 60, this.maxDurationSeconds);
+            long size = Math.min(maxSizeMb != null ? maxSizeMb : this.maxSizeMb, this.maxSizeMb);
+
+            destination = Files.createTempFile("user-service-", ".jfr");
+            recording = new Recording(configuration);
+            recording.setName("user-service-on-demand");
+            recording.setToDisk(true);
+            recording.setDuration(Duration.ofSeconds(duration));
+            recording.setMaxSize(size * 1024 * 1024);
+            recording.setDestination(destination);
+            recording.start();
+
+            log.info("JFR recording started - settings={}, duration={}s, maxSize={}MB, destination={}",
+                    configuration.getName(), duration, size, destination);
+            return new WebEndpointResponse<>(describe(), WebEndpointResponse.STATUS_OK);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @DeleteOperation
+    public Map<String, Object> stop() {
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+                log.info("JFR recording stopped - destination={}", destination);
+            }
+            return describe();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String file) throws IOException {
+        lock.lock();
+        try {
+            if (!FILE_NAME.equals(file) || recording == null) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            if (recording.getState() == RecordingState.RUNNING) {
+                if (snapshot == null) {
+                    snapshot = Files.createTempFile("user-service-snapshot-", ".jfr");
+                }
+                recording.dump(snapshot);
+                return new WebEndpointResponse<>(new FileSystemResource(snapshot), WebEndpointResponse.STATUS_OK);
+            }
+            if (destination == null || !Files.exists(destination)) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            return new WebEndpointResponse<>(new FileSystemResource(destination), WebEndpointResponse.STATUS_OK);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeCurrent() throws IOException {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (destination != null) {
+            Files.deleteIfExists(destination);
+            destination = null;
+        }
+        if (snapshot != null) {
+            Files.deleteIfExists(snapshot);
+            snapshot = null;
+        }
+    }
+
+    private Map<String, Object> describe() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState().name());
+        Instant startTime = recording.getStartTime();
+        status.put("startTime", startTime);
+        status.put("duration", recording.getDuration());
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("file", FILE_NAME);
+        return status;
+    }
+}
@@ -0,0 +1,26 @@
+package com.medibridge.user_service.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a username/password login attempt
+ */
+@Name("com.medibridge.user.Login")
+@Label("Login")
+@Category({"MediBridge", "Authentication"})
+@Description("Username/password authentication, including the BCrypt check and token issue")
+public class LoginEvent extends Event {
+
+    @Label("Username Hash")
+    public String usernameHash;
+
+    @Label("Role")
+    public String role;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,26 @@
+package com.medibridge.user_service.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a user registration
+ */
+@Name("com.medibridge.user.Registration")
+@Label("Registration")
+@Category({"MediBridge", "Authentication"})
+@Description("User and profile creation, password hashing and token issue")
+public class RegistrationEvent extends Event {
+
+    @Label("Username Hash")
+    public String usernameHash;
+
+    @Label("Role")
+    public String role;
+
+    @Label("Success")
+    public boolean success;
+}
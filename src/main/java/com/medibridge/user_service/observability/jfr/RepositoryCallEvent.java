@@ -0,0 +1,30 @@
+package com.medibridge.user_service.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a single Spring Data repository method invocation
+ */
+@Name("com.medibridge.user.RepositoryCall")
+@Label("Repository Call")
+@Category({"MediBridge", "Database"})
+@Description("Spring Data repository method invocation")
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Statement Count")
+    @Description("JDBC statements executed during the call")
+    public int statementCount;
+
+    @Label("Success")
+    public boolean success;
+}
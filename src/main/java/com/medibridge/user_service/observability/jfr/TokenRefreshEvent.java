@@ -0,0 +1,26 @@
+package com.medibridge.user_service.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for exchanging a refresh token for a new access token
+ */
+@Name("com.medibridge.user.TokenRefresh")
+@Label("Token Refresh")
+@Category({"MediBridge", "Authentication"})
+@Description("Refresh token lookup, expiry check and access token issue")
+public class TokenRefreshEvent extends Event {
+
+    @Label("Username Hash")
+    public String usernameHash;
+
+    @Label("Role")
+    public String role;
+
+    @Label("Success")
+    public boolean success;
+}
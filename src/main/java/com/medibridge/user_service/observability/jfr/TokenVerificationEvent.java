@@ -0,0 +1,26 @@
+package com.medibridge.user_service.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for verifying a bearer token on an incoming request
+ */
+@Name("com.medibridge.user.TokenVerification")
+@Label("Token Verification")
+@Category({"MediBridge", "Authentication"})
+@Description("JWT parse, signature check and user load for a bearer token")
+public class TokenVerificationEvent extends Event {
+
+    @Label("Username Hash")
+    public String usernameHash;
+
+    @Label("Role")
+    public String role;
+
+    @Label("Valid")
+    public boolean valid;
+}
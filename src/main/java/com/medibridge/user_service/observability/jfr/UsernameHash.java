@@ -0,0 +1,35 @@
+package com.medibridge.user_service.observability.jfr;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Pseudonymises usernames for recordings: events can be correlated per user
+ * without the .jfr file containing the username itself.
+ */
+public final class UsernameHash {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private UsernameHash() {
+    }
+
+    /**
+     * First 8 bytes of SHA-256 of the username, hex encoded.
+     * @param username raw username (may be null)
+     * @return 16-character hash, or null for a null username
+     */
+    public static String of(String username) {
+        if (username == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(username.getBytes(StandardCharsets.UTF_8));
+            return HEX.formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
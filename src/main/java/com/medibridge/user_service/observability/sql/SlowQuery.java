@@ -0,0 +1,30 @@
+package com.medibridge.user_service.observability.sql;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A statement sampled by {@link SlowQueryLog}.
+ * Bind values are exposed only as their type (and length for strings), never their content.
+ * The raw values are kept in memory only when the log retains them, so an admin can EXPLAIN
+ * the statement with the same plan inputs; otherwise bindValues is empty.
+ */
+@Getter
+@AllArgsConstructor
+public class SlowQuery {
+
+    private final long id;
+    private final Instant timestamp;
+    private final long durationMs;
+    private final String sql;
+    private final List<String> parameters;
+    private final String repositoryMethod;
+    private final String correlationId;
+
+    @JsonIgnore
+    private final List<Object> bindValues;
+}
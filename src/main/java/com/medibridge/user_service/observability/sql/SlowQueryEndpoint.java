@@ -0,0 +1,87 @@
+package com.medibridge.user_service.observability.sql;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Actuator endpoint over the {@link SlowQueryLog}.
+ *
+ * GET    /actuator/slowqueries                    sampled statements, newest first
+ * GET    /actuator/slowqueries/{id}               one sampled statement
+ * GET    /actuator/slowqueries/{id}?explain=true  the same, with the EXPLAIN plan for its captured binds
+ * DELETE /actuator/slowqueries                    clear the ring
+ *
+ * EXPLAIN is only run for SELECT statements. Access is restricted to admins in SecurityConfig.
+ */
+@Component
+@ConditionalOnProperty(name = "application.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+@Slf4j
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+    private final JdbcTemplate jdbcTemplate;
+
+    @ReadOperation
+    public Map<String, Object> list() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("thresholdMs", slowQueryLog.getThresholdMs());
+        body.put("capacity", slowQueryLog.getCapacity());
+        body.put("recorded", slowQueryLog.getRecorded());
+        body.put("queries", slowQueryLog.entries());
+        return body;
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Map<String, Object>> get(@Selector long id, @Nullable Boolean explain) {
+        Optional<SlowQuery> found = slowQueryLog.find(id);
+        if (found.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        SlowQuery query = found.get();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("query", query);
+        if (Boolean.TRUE.equals(explain)) {
+            if (!query.getSql().stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+                body.put("error", "EXPLAIN is only supported for SELECT statements");
+                return new WebEndpointResponse<>(body, WebEndpointResponse.STATUS_BAD_REQUEST);
+            }
+            if (query.getBindValues().size() < query.getParameters().size()) {
+                body.put("error", "Bind values are not retained; set application.slow-query.retain-bind-values to EXPLAIN");
+                return new WebEndpointResponse<>(body, WebEndpointResponse.STATUS_BAD_REQUEST);
+            }
+            try {
+                List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + query.getSql(),
+                        query.getBindValues().toArray());
+                body.put("plan", plan);
+            } catch (DataAccessException e) {
+                log.warn("EXPLAIN failed for slow query {}: {}", id, e.getMessage());
+                body.put("error", "EXPLAIN failed: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+        return new WebEndpointResponse<>(body, WebEndpointResponse.STATUS_OK);
+    }
+
+    @DeleteOperation
+    public Map<String, Object> clear() {
+        slowQueryLog.clear();
+        return list();
+    }
+}
@@ -0,0 +1,149 @@
+package com.medibridge.user_service.observability.sql;
+
+import com.medibridge.user_service.util.CorrelationIdUtil;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded in-memory ring of statements slower than application.slow-query.threshold-ms.
+ * Recording is lock-free: a slot is claimed from a sequence and overwritten when the ring wraps,
+ * so the newest statements are kept and memory stays fixed under a burst of slow queries.
+ * Bind values can hold PHI or credentials, so only their types are kept unless
+ * application.slow-query.retain-bind-values is set (needed to EXPLAIN parameterised statements).
+ */
+@Component
+@ConditionalOnProperty(name = "application.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SlowQueryLog {
+
+    private final long thresholdNanos;
+    private final boolean retainBindValues;
+    private final AtomicReferenceArray<SlowQuery> ring;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowQueryLog(@Value("${application.slow-query.threshold-ms:200}") long thresholdMs,
+                        @Value("${application.slow-query.capacity:100}") int capacity,
+                        @Value("${application.slow-query.retain-bind-values:false}") boolean retainBindValues) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.ring = new AtomicReferenceArray<>(Math.max(1, capacity));
+        this.retainBindValues = retainBindValues;
+    }
+
+    public boolean isSlow(long nanos) {
+        return nanos >= thresholdNanos;
+    }
+
+    public long getThresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    public int getCapacity() {
+        return ring.length();
+    }
+
+    public boolean isRetainingBindValues() {
+        return retainBindValues;
+    }
+
+    /**
+     * @return total number of slow statements seen since startup or the last clear
+     */
+    public long getRecorded() {
+        return sequence.get();
+    }
+
+    /**
+     * Sample a slow statement. Only the first parameter set of a batch is captured.
+     */
+    void record(QueryInfo queryInfo, long nanos) {
+        List<String> parameters = new ArrayList<>();
+        List<Object> bindValues = new ArrayList<>();
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (!parametersList.isEmpty()) {
+            TreeMap<Integer, Object> byIndex = new TreeMap<>();
+            for (ParameterSetOperation operation : parametersList.get(0)) {
+                Object[] args = operation.getArgs();
+                if (args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    byIndex.put(index, "setNull".equals(operation.getMethod().getName()) ? null : args[1]);
+                }
+            }
+            for (Object value : byIndex.values()) {
+                parameters.add(redact(value));
+                if (retainBindValues) {
+                    bindValues.add(value);
+                }
+            }
+        }
+
+        long id = sequence.incrementAndGet();
+        SlowQuery query = new SlowQuery(id, Instant.now(), TimeUnit.NANOSECONDS.toMillis(nanos),
+                queryInfo.getQuery(), parameters, SqlStatementContext.currentRepositoryMethod(),
+                CorrelationIdUtil.getCorrelationId(), Collections.unmodifiableList(bindValues));
+        ring.set((int) ((id - 1) % ring.length()), query);
+
+        log.warn("Slow SQL - {}ms, repository={}, correlationId={}, sql={}",
+                query.getDurationMs(), query.getRepositoryMethod(), query.getCorrelationId(),
+                SqlStatementStats.shapeOf(query.getSql()));
+    }
+
+    /**
+     * @return sampled statements, newest first
+     */
+    public List<SlowQuery> entries() {
+        List<SlowQuery> entries = new ArrayList<>(ring.length());
+        for (int i = 0; i < ring.length(); i++) {
+            SlowQuery query = ring.get(i);
+            if (query != null) {
+                entries.add(query);
+            }
+        }
+        entries.sort((a, b) -> Long.compare(b.getId(), a.getId()));
+        return entries;
+    }
+
+    public Optional<SlowQuery> find(long id) {
+        if (id < 1) {
+            return Optional.empty();
+        }
+        SlowQuery query = ring.get((int) ((id - 1) % ring.length()));
+        return query != null && query.getId() == id ? Optional.of(query) : Optional.empty();
+    }
+
+    /**
+     * Drop all entries and restart ids and the recorded count from zero
+     */
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+        sequence.set(0);
+    }
+
+    private static String redact(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        String type = value.getClass().getSimpleName();
+        if (value instanceof CharSequence text) {
+            return type + "(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return type + "(" + bytes.length + ")";
+        }
+        return type;
+    }
+}
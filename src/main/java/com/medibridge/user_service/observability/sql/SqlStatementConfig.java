@@ -0,0 +1,46 @@
+package com.medibridge.user_service.observability.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the DataSource in a datasource-proxy that reports every statement to {@link SqlStatementContext}
+ * (application.sql-stats.enabled) and samples slow ones into {@link SlowQueryLog} (application.slow-query.enabled).
+ * The proxy is installed while either is on, so turning statement accounting off keeps slow-query sampling.
+ * Counting the rows read proxies every ResultSet call, so it is off unless application.sql-stats.count-rows
+ * is set; rows changed by updates are always counted.
+ */
+@Configuration
+@ConditionalOnExpression("${application.sql-stats.enabled:true} or ${application.slow-query.enabled:true}")
+public class SqlStatementConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatementProxyPostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog,
+                                                                   Environment environment) {
+        boolean countRows = environment.getProperty("application.sql-stats.enabled", Boolean.class, true)
+                && environment.getProperty("application.sql-stats.count-rows", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    SqlStatementListener listener = new SqlStatementListener(slowQueryLog);
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener);
+                    if (countRows) {
+                        builder.methodListener(listener).proxyResultSet();
+                    }
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.medibridge.user_service.observability.sql;
+
+/**
+ * Thread-bound stack of {@link SqlStatementStats} scopes.
+ * Statements are counted in the innermost scope and every enclosing one, so a repository
+ * call scope nested inside a request scope contributes to both totals.
+ */
+public final class SqlStatementContext {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+
+    private SqlStatementContext() {
+    }
+
+    /**
+     * Open a new scope on the current thread.
+     * @return the scope's stats; pass it to {@link #close(SqlStatementStats)} when done
+     */
+    public static SqlStatementStats open() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Close a scope opened with {@link #open()}, restoring the enclosing one
+     */
+    public static void close(SqlStatementStats stats) {
+        if (stats.getParent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats.getParent());
+        }
+    }
+
+    /**
+     * @return the innermost open scope, or null if none is open
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    static void recordStatement(String sql, long nanos) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.getParent()) {
+            stats.recordStatement(sql, nanos);
+        }
+    }
+
+    static void recordRows(long count) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.getParent()) {
+            stats.recordRows(count);
+        }
+    }
+
+    /**
+     * Mark the repository method executing on this thread, e.g. "UserRepository.findByUsername".
+     * @return the previously marked method, to restore with {@link #exitRepositoryMethod(String)}
+     */
+    public static String enterRepositoryMethod(String repositoryMethod) {
+        String previous = REPOSITORY_METHOD.get();
+        REPOSITORY_METHOD.set(repositoryMethod);
+        return previous;
+    }
+
+    public static void exitRepositoryMethod(String previous) {
+        if (previous == null) {
+            REPOSITORY_METHOD.remove();
+        } else {
+            REPOSITORY_METHOD.set(previous);
+        }
+    }
+
+    /**
+     * @return the repository method executing on this thread, or null outside repository calls
+     */
+    public static String currentRepositoryMethod() {
+        return REPOSITORY_METHOD.get();
+    }
+}
@@ -0,0 +1,84 @@
+package com.medibridge.user_service.observability.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accounts JDBC statements, rows and time per HTTP request.
+ * Opens a {@link SqlStatementContext} scope around the whole chain (so the JWT user load is included),
+ * records the totals as metrics tagged by endpoint, and warns when a request exceeds the statement
+ * budget, naming the most repeated SQL shape - the usual signature of an N+1 through a lazy association.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@ConditionalOnProperty(name = "application.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute holding the request's {@link SqlStatementStats}, read by the access log once the scope is closed
+     */
+    public static final String STATS = SqlStatementFilter.class.getName() + ".STATS";
+
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.sql-stats.statement-budget:20}")
+    private int statementBudget;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementContext.open();
+        request.setAttribute(STATS, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementContext.close(stats);
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNMATCHED;
+        String method = request.getMethod();
+
+        DistributionSummary.builder("medibridge.sql.statements")
+                .tag("method", method).tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("medibridge.sql.rows")
+                .tag("method", method).tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        meterRegistry.timer("medibridge.sql.time", "method", method, "uri", uri)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > statementBudget) {
+            log.warn("SQL statement budget exceeded - {} {} ran {} statements (budget {}), {} rows, {}ms; most repeated: {}",
+                    method, uri, stats.getStatements(), statementBudget, stats.getRows(),
+                    stats.getElapsedMillis(), stats.mostRepeatedShape());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.medibridge.user_service.observability.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * datasource-proxy listener feeding {@link SqlStatementContext} and {@link SlowQueryLog}.
+ * Counts executed statements with their time and rows updated when a scope is open on the current thread,
+ * plus rows read through result sets when registered as method listener (application.sql-stats.count-rows),
+ * and samples every statement over the slow threshold.
+ */
+public class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = "sqlStartNanos";
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLogProvider;
+    private volatile SlowQueryLog slowQueryLog;
+
+    /**
+     * @param slowQueryLogProvider resolved on first use, since the DataSource is created before the log
+     */
+    public SqlStatementListener(ObjectProvider<SlowQueryLog> slowQueryLogProvider) {
+        this.slowQueryLogProvider = slowQueryLogProvider;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (start == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        SlowQueryLog slowLog = slowQueryLog();
+        if (slowLog != null && slowLog.isSlow(nanos)) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                slowLog.record(queryInfo, nanos / queryInfoList.size());
+            }
+        }
+        if (SqlStatementContext.current() == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            SqlStatementContext.recordStatement(queryInfo.getQuery(), nanos / queryInfoList.size());
+        }
+        Object result = execInfo.getResult();
+        if (result instanceof Integer updated && updated > 0) {
+            SqlStatementContext.recordRows(updated);
+        } else if (result instanceof Long updated && updated > 0) {
+            SqlStatementContext.recordRows(updated);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && SqlStatementContext.current() != null) {
+            SqlStatementContext.recordRows(1);
+        }
+    }
+
+    private SlowQueryLog slowQueryLog() {
+        SlowQueryLog slowLog = slowQueryLog;
+        if (slowLog == null) {
+            slowLog = slowQueryLogProvider.getIfAvailable();
+            slowQueryLog = slowLog;
+        }
+        return slowLog;
+    }
+}
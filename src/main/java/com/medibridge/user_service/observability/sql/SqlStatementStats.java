@@ -0,0 +1,95 @@
+package com.medibridge.user_service.observability.sql;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC statement totals for one scope (an HTTP request, a repository call, a test block).
+ * Confined to the thread that opened it, so no synchronization.
+ */
+public class SqlStatementStats {
+
+    private static final int MAX_SHAPES = 100;
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final SqlStatementStats parent;
+    // Keyed by the SQL text as executed: Hibernate reuses the same parameterised text for repeats,
+    // so the regex work of shapeOf is deferred to the rare reads of the shapes
+    private final Map<String, Integer> statementsBySql = new LinkedHashMap<>();
+    private int statements;
+    private long rows;
+    private long elapsedNanos;
+
+    SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    void recordStatement(String sql, long nanos) {
+        statements++;
+        elapsedNanos += nanos;
+        if (sql != null && (statementsBySql.size() < MAX_SHAPES || statementsBySql.containsKey(sql))) {
+            statementsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordRows(long count) {
+        rows += count;
+    }
+
+    SqlStatementStats getParent() {
+        return parent;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * Statement counts by SQL shape (literals and IN lists collapsed), in first-seen order
+     */
+    public Map<String, Integer> getShapes() {
+        Map<String, Integer> shapes = new LinkedHashMap<>();
+        statementsBySql.forEach((sql, count) -> shapes.merge(shapeOf(sql), count, Integer::sum));
+        return Collections.unmodifiableMap(shapes);
+    }
+
+    /**
+     * The most repeated shape and its count, e.g. "12x select ... where p.user_id=?"
+     */
+    public String mostRepeatedShape() {
+        return getShapes().entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(e -> e.getValue() + "x " + e.getKey())
+                .orElse("none");
+    }
+
+    /**
+     * Reduce a statement to its shape so repeated executions with different values group together
+     */
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?...)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
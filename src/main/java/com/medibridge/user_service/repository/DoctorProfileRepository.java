@@ -2,6 +2,7 @@ package com.medibridge.user_service.repository;
 
 import com.medibridge.user_service.entity.DoctorProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +18,12 @@ import java.util.UUID;
 public interface DoctorProfileRepository extends JpaRepository<DoctorProfile, UUID> {
     Optional<DoctorProfile> findByUserId(UUID userId);
 
+    // Version only, for answering conditional reads without loading the profile
+    @Query("SELECT dp.version FROM DoctorProfile dp WHERE dp.user.id = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") UUID userId);
+
+    boolean existsByUserId(UUID userId);
+
     Optional<DoctorProfile> findByLicenseNumber(String licenseNumber);
 
     Optional<DoctorProfile> findByNpiNumber(String npiNumber);
@@ -37,5 +44,42 @@ public interface DoctorProfileRepository extends JpaRepository<DoctorProfile, UU
 
     @Query("SELECT dp FROM DoctorProfile dp WHERE dp.department = :department AND dp.verificationStatus = true ORDER BY dp.averageRating DESC")
     List<DoctorProfile> findVerifiedDoctorsByDepartmentSortedByRating(@Param("department") String department);
-}
 
+    // JSON array membership; served by the multi-valued indexes of MultiValuedIndexMigration (V5) on MySQL, a profile_type range elsewhere.
+    // Native, so the soft delete restriction is repeated by hand
+    @Query(value = "SELECT * FROM user_profiles WHERE profile_type = 'DOCTOR' AND is_deleted = 0 " +
+            "AND JSON_CONTAINS(JSON_EXTRACT(languages, '$'), JSON_ARRAY(:language))", nativeQuery = true)
+    List<DoctorProfile> findByLanguage(@Param("language") String language);
+
+    @Query(value = "SELECT * FROM user_profiles WHERE profile_type = 'DOCTOR' AND is_deleted = 0 " +
+            "AND JSON_CONTAINS(JSON_EXTRACT(affiliated_hospitals, '$'), JSON_ARRAY(:hospital))", nativeQuery = true)
+    List<DoctorProfile> findByAffiliatedHospital(@Param("hospital") String hospital);
+
+    // ==================== VERSIONED UPDATES ====================
+
+    // Scalar columns of user_profiles only; list values are written through the entity, whose converter a bulk update does not apply
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE DoctorProfile dp SET dp.firstName = COALESCE(:firstName, dp.firstName), " +
+            "dp.lastName = COALESCE(:lastName, dp.lastName), " +
+            "dp.specialization = COALESCE(:specialization, dp.specialization), " +
+            "dp.department = COALESCE(:department, dp.department), " +
+            "dp.clinicAddress = COALESCE(:clinicAddress, dp.clinicAddress), " +
+            "dp.consultationFee = COALESCE(:consultationFee, dp.consultationFee), " +
+            "dp.maxPatientsPerDay = COALESCE(:maxPatientsPerDay, dp.maxPatientsPerDay), " +
+            "dp.isAcceptingNewPatients = COALESCE(:isAcceptingNewPatients, dp.isAcceptingNewPatients), " +
+            "dp.officeLocation = COALESCE(:officeLocation, dp.officeLocation), " +
+            "dp.updatedAt = :updatedAt, dp.version = dp.version + 1 " +
+            "WHERE dp.user.id = :userId AND dp.version = :version")
+    int updateIfVersionMatches(@Param("userId") UUID userId,
+                               @Param("version") Long version,
+                               @Param("firstName") String firstName,
+                               @Param("lastName") String lastName,
+                               @Param("specialization") String specialization,
+                               @Param("department") String department,
+                               @Param("clinicAddress") String clinicAddress,
+                               @Param("consultationFee") Double consultationFee,
+                               @Param("maxPatientsPerDay") Integer maxPatientsPerDay,
+                               @Param("isAcceptingNewPatients") Boolean isAcceptingNewPatients,
+                               @Param("officeLocation") String officeLocation,
+                               @Param("updatedAt") Long updatedAt);
+}
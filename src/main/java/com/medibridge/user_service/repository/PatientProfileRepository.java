@@ -17,6 +17,10 @@ import java.util.UUID;
 public interface PatientProfileRepository extends JpaRepository<PatientProfile, UUID> {
     Optional<PatientProfile> findByUserId(UUID userId);
 
+    // Version only, for answering conditional reads without loading the profile
+    @Query("SELECT pp.version FROM PatientProfile pp WHERE pp.user.id = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") UUID userId);
+
     Optional<PatientProfile> findByInsurancePolicyNumber(String policyNumber);
 
     List<PatientProfile> findByBloodGroup(String bloodGroup);
@@ -31,10 +35,17 @@ public interface PatientProfileRepository extends JpaRepository<PatientProfile,
     @Query("SELECT pp FROM PatientProfile pp WHERE pp.user.email = :email")
     Optional<PatientProfile> findByEmail(@Param("email") String email);
 
-    @Query("SELECT pp FROM PatientProfile pp WHERE pp.medicalConditions LIKE %:condition%")
+    @Query("SELECT pp FROM PatientProfile pp WHERE pp.details.medicalConditions LIKE %:condition%")
     List<PatientProfile> findPatientsByMedicalCondition(@Param("condition") String condition);
 
     @Query("SELECT pp FROM PatientProfile pp WHERE pp.gdprConsent = true")
     List<PatientProfile> findPatientWithGdprConsent();
+
+    // JSON array membership; served by the multi-valued index of MultiValuedIndexMigration (V5) on MySQL.
+    // Native, so the soft delete restriction is repeated by hand
+    @Query(value = "SELECT * FROM user_profiles WHERE profile_type = 'USER' AND is_deleted = 0 " +
+            "AND JSON_CONTAINS(JSON_EXTRACT(preferred_doctor_ids, '$'), JSON_ARRAY(:#{#doctorId.toString()}))",
+            nativeQuery = true)
+    List<PatientProfile> findByPreferredDoctorId(@Param("doctorId") UUID doctorId);
 }
 
@@ -0,0 +1,118 @@
+package com.medibridge.user_service.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Tuple projections that read only the requested columns of an entity.
+ * DTO property names are expected to match entity attribute names, with
+ * {@code userId} resolving to the {@code user} foreign key. Names the entity lacks
+ * are read from its {@code details} side table (see ProfileDetails) through a left join,
+ * which is only added when such a name is requested.
+ */
+@Repository
+public class ProjectionRepository {
+
+    private static final String USER_ID = "userId";
+    private static final String DETAILS = "details";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Read the given attributes of a single entity into a new DTO.
+     */
+    public <E, D> Optional<D> findOne(Class<E> entityType, String keyAttribute, Object key,
+                                      Collection<String> attributes, Supplier<D> dtoFactory) {
+        List<D> results = findAll(entityType, Map.of(keyAttribute, key), attributes, dtoFactory);
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    }
+
+    /**
+     * Read the given attributes of all entities matching the equality filters into new DTOs.
+     */
+    public <E, D> List<D> findAll(Class<E> entityType, Map<String, Object> filters,
+                                  Collection<String> attributes, Supplier<D> dtoFactory) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityType);
+        Join<E, ?> details = joinDetailsIfNeeded(root, attributes, filters.keySet());
+
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            selections.add(path(root, details, attribute).alias(attribute));
+        }
+        query.select(cb.tuple(selections.toArray(new Selection<?>[0])));
+
+        List<Predicate> predicates = new ArrayList<>(filters.size());
+        filters.forEach((attribute, value) -> predicates.add(cb.equal(path(root, details, attribute), value)));
+        query.where(predicates.toArray(new Predicate[0]));
+
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        List<D> results = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            D dto = dtoFactory.get();
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(dto);
+            for (String attribute : attributes) {
+                wrapper.setPropertyValue(attribute, tuple.get(attribute));
+            }
+            results.add(dto);
+        }
+        return results;
+    }
+
+    private static Path<?> path(Root<?> root, Join<?, ?> details, String attribute) {
+        if (USER_ID.equals(attribute)) {
+            // Foreign key column, no join to users
+            return root.get("user").get("id");
+        }
+        if (details != null && !hasAttribute(root, attribute)) {
+            return details.get(attribute);
+        }
+        return root.get(attribute);
+    }
+
+    private static <E> Join<E, ?> joinDetailsIfNeeded(Root<E> root, Collection<String> attributes,
+                                                      Collection<String> filters) {
+        if (!hasAttribute(root, DETAILS)) {
+            return null;
+        }
+        for (Collection<String> names : List.of(attributes, filters)) {
+            for (String name : names) {
+                if (!USER_ID.equals(name) && !hasAttribute(root, name)) {
+                    return root.join(DETAILS, JoinType.LEFT);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasAttribute(Root<?> root, String name) {
+        for (Attribute<?, ?> attribute : root.getModel().getAttributes()) {
+            if (attribute.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -4,13 +4,17 @@ import com.medibridge.user_service.entity.RefreshToken;
 import com.medibridge.user_service.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
-    Optional<RefreshToken> findByToken(String token);
+    // Inner join: the tokens of soft-deleted users are not found
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.token = :token")
+    Optional<RefreshToken> findByToken(@Param("token") String token);
 
     Optional<RefreshToken> findByUser(User user);
 
@@ -2,14 +2,22 @@ package com.medibridge.user_service.repository;
 
 import com.medibridge.user_service.entity.Role;
 import com.medibridge.user_service.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Soft-deleted users are filtered out of every JPQL and derived query by the restriction on
+ * {@link User}; native queries see all rows.
+ */
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
 
@@ -21,9 +29,20 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     List<User> findByRoleAndIsActiveTrue(Role role);
 
-    boolean existsByEmail(String email);
+    // Soft-deleted users keep their unique username/email until archived, so these count them too
+    default boolean existsByEmail(String email) {
+        return countByEmailIncludingDeleted(email) > 0;
+    }
 
-    boolean existsByUsername(String username);
+    default boolean existsByUsername(String username) {
+        return countByUsernameIncludingDeleted(username) > 0;
+    }
+
+    @Query(value = "SELECT COUNT(*) FROM users WHERE email = :email", nativeQuery = true)
+    long countByEmailIncludingDeleted(@Param("email") String email);
+
+    @Query(value = "SELECT COUNT(*) FROM users WHERE username = :username", nativeQuery = true)
+    long countByUsernameIncludingDeleted(@Param("username") String username);
 
     @Query("SELECT u FROM User u WHERE u.role = :role AND u.isActive = true")
     List<User> findActiveUsersByRole(@Param("role") Role role);
@@ -31,26 +50,80 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u WHERE u.email = :email OR u.username = :username")
     Optional<User> findByEmailOrUsername(@Param("email") String email, @Param("username") String username);
 
+    // ==================== BATCH QUERIES ====================
+
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile WHERE u.id IN :ids")
+    List<User> findAllWithProfileByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile WHERE u.username IN :usernames")
+    List<User> findAllWithProfileByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * IDs of the most recently signed-in users, newest first (startup cache warm-up)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.lastLoginAt IS NOT NULL ORDER BY u.lastLoginAt DESC")
+    List<UUID> findRecentlySignedInIds(Pageable pageable);
+
+    @Query("SELECT u.version AS version, p.version AS profileVersion FROM User u LEFT JOIN u.profile p WHERE u.id = :id")
+    Optional<Versions> findVersionsById(@Param("id") UUID id);
+
+    // ==================== VERSIONED UPDATES ====================
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE User u SET u.fullName = COALESCE(:fullName, u.fullName), " +
+            "u.phoneNumber = COALESCE(:phoneNumber, u.phoneNumber), " +
+            "u.email = COALESCE(:email, u.email), " +
+            "u.updatedAt = :updatedAt, u.version = u.version + 1 " +
+            "WHERE u.id = :id AND u.version = :version")
+    int updateProfileIfVersionMatches(@Param("id") UUID id,
+                                      @Param("version") Long version,
+                                      @Param("fullName") String fullName,
+                                      @Param("phoneNumber") String phoneNumber,
+                                      @Param("email") String email,
+                                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE User u SET u.isActive = true, u.updatedAt = :updatedAt, u.version = u.version + 1 " +
+            "WHERE u.id = :id AND u.version = :version")
+    int activateIfVersionMatches(@Param("id") UUID id,
+                                 @Param("version") Long version,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE User u SET u.isLocked = true, u.updatedAt = :updatedAt, u.version = u.version + 1 " +
+            "WHERE u.id = :id AND u.version = :version")
+    int lockIfVersionMatches(@Param("id") UUID id,
+                             @Param("version") Long version,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+
     // ==================== PATIENT QUERIES ====================
 
-    @Query("SELECT u FROM User u WHERE u.role = 'PATIENT' AND u.isDeleted = false")
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile WHERE u.role = 'PATIENT'")
     List<User> findAllPatients();
 
-    @Query("SELECT COUNT(u) FROM User u WHERE u.role = 'PATIENT' AND u.isDeleted = false")
+    @Query("SELECT COUNT(u) FROM User u WHERE u.role = 'PATIENT'")
     long countPatients();
 
     // ==================== DOCTOR QUERIES ====================
 
-    @Query("SELECT u FROM User u WHERE u.role = 'DOCTOR' AND u.isDeleted = false")
+    // Profiles are fetched in the same statement: the DTO mapping reads one per row (pinned by AdminControllerStatementCountTests)
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile WHERE u.role = 'DOCTOR'")
     List<User> findAllDoctors();
 
-    @Query("SELECT COUNT(u) FROM User u WHERE u.role = 'DOCTOR' AND u.isDeleted = false")
+    @Query("SELECT COUNT(u) FROM User u WHERE u.role = 'DOCTOR'")
     long countDoctors();
 
     // ==================== STATISTICS QUERIES ====================
 
-    @Query("SELECT COUNT(u) FROM User u WHERE u.isActive = true AND u.isDeleted = false")
+    @Query("SELECT COUNT(u) FROM User u WHERE u.isActive = true")
     long countActiveUsers();
-}
 
+    /**
+     * Optimistic locking versions of a user and its profile (null when there is no profile)
+     */
+    interface Versions {
+        Long getVersion();
 
+        Long getProfileVersion();
+    }
+}
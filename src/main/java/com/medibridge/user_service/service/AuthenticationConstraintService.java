@@ -2,6 +2,7 @@ package com.medibridge.user_service.service;
 
 import com.medibridge.user_service.exception.AuthenticationException;
 import com.medibridge.user_service.exception.BusinessLogicException;
+import com.medibridge.user_service.validation.CredentialRules;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,17 +31,17 @@ public class AuthenticationConstraintService {
             throw new BusinessLogicException("Username cannot be empty", "INVALID_USERNAME");
         }
 
-        if (username.length() < 3) {
+        if (username.length() < CredentialRules.USERNAME_MIN_LENGTH) {
             log.warn("Username validation failed: Username too short - {}", username);
             throw new BusinessLogicException("Username must be at least 3 characters", "USERNAME_TOO_SHORT");
         }
 
-        if (username.length() > 50) {
+        if (username.length() > CredentialRules.USERNAME_MAX_LENGTH) {
             log.warn("Username validation failed: Username too long - {}", username);
             throw new BusinessLogicException("Username must not exceed 50 characters", "USERNAME_TOO_LONG");
         }
 
-        if (!username.matches("^[a-zA-Z0-9._-]+$")) {
+        if (!CredentialRules.hasValidUsernameCharacters(username)) {
             log.warn("Username validation failed: Invalid format - {}", username);
             throw new BusinessLogicException(
                     "Username can only contain letters, numbers, dots, underscores, and hyphens",
@@ -60,8 +61,7 @@ public class AuthenticationConstraintService {
             throw new BusinessLogicException("Email cannot be empty", "INVALID_EMAIL");
         }
 
-        String emailRegex = "^[A-Za-z0-9+_.-]+@(.+)$";
-        if (!email.matches(emailRegex)) {
+        if (!CredentialRules.isValidEmail(email)) {
             log.warn("Email validation failed: Invalid format - {}", email);
             throw new BusinessLogicException("Email format is invalid", "INVALID_EMAIL_FORMAT");
         }
@@ -78,22 +78,19 @@ public class AuthenticationConstraintService {
             throw new BusinessLogicException("Password cannot be empty", "INVALID_PASSWORD");
         }
 
-        if (password.length() < 8) {
+        int violations = CredentialRules.checkPassword(password);
+
+        if ((violations & CredentialRules.PASSWORD_TOO_SHORT) != 0) {
             log.warn("Password validation failed: Password too short");
             throw new BusinessLogicException("Password must be at least 8 characters", "PASSWORD_TOO_SHORT");
         }
 
-        if (password.length() > 128) {
+        if ((violations & CredentialRules.PASSWORD_TOO_LONG) != 0) {
             log.warn("Password validation failed: Password too long");
             throw new BusinessLogicException("Password must not exceed 128 characters", "PASSWORD_TOO_LONG");
         }
 
-        boolean hasUpperCase = password.matches(".*[A-Z].*");
-        boolean hasLowerCase = password.matches(".*[a-z].*");
-        boolean hasDigit = password.matches(".*[0-9].*");
-        boolean hasSpecialChar = password.matches(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?].*");
-
-        if (!hasUpperCase) {
+        if ((violations & CredentialRules.PASSWORD_MISSING_UPPERCASE) != 0) {
             log.warn("Password validation failed: Missing uppercase letter");
             throw new BusinessLogicException(
                     "Password must contain at least one uppercase letter",
@@ -101,7 +98,7 @@ public class AuthenticationConstraintService {
             );
         }
 
-        if (!hasLowerCase) {
+        if ((violations & CredentialRules.PASSWORD_MISSING_LOWERCASE) != 0) {
             log.warn("Password validation failed: Missing lowercase letter");
             throw new BusinessLogicException(
                     "Password must contain at least one lowercase letter",
@@ -109,7 +106,7 @@ public class AuthenticationConstraintService {
             );
         }
 
-        if (!hasDigit) {
+        if ((violations & CredentialRules.PASSWORD_MISSING_DIGIT) != 0) {
             log.warn("Password validation failed: Missing digit");
             throw new BusinessLogicException(
                     "Password must contain at least one digit",
@@ -117,7 +114,7 @@ public class AuthenticationConstraintService {
             );
         }
 
-        if (!hasSpecialChar) {
+        if ((violations & CredentialRules.PASSWORD_MISSING_SPECIAL_CHAR) != 0) {
             log.warn("Password validation failed: Missing special character");
             throw new BusinessLogicException(
                     "Password must contain at least one special character",
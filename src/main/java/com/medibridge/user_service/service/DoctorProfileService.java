@@ -4,6 +4,7 @@ import com.medibridge.user_service.dto.DoctorProfileDTO;
 import com.medibridge.user_service.dto.DoctorRegisterRequest;
 import com.medibridge.user_service.entity.DoctorProfile;
 import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.util.SparseFieldset;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +30,16 @@ public interface DoctorProfileService {
      */
     Optional<DoctorProfile> getDoctorProfileByUsername(String username);
 
+    /**
+     * Get doctor profile DTO by user ID, reading only the selected fields
+     */
+    DoctorProfileDTO getDoctorProfileDTO(UUID userId, SparseFieldset fields);
+
+    /**
+     * Get the entity tag of the doctor profile without loading it (empty if there is no profile)
+     */
+    Optional<String> getProfileEntityTag(UUID userId, SparseFieldset fields);
+
     /**
      * Get doctor by license number
      */
@@ -44,6 +55,12 @@ public interface DoctorProfileService {
      */
     DoctorProfile updateDoctorProfile(UUID userId, DoctorProfileDTO dto);
 
+    /**
+     * Update doctor profile only if the stored version still equals expectedVersion (null = unconditional)
+     * A conditional update of scalar fields only is a single UPDATE and returns only the written fields and the new version
+     */
+    DoctorProfileDTO updateDoctorProfile(UUID userId, DoctorProfileDTO dto, Long expectedVersion);
+
     /**
      * Get all doctors in a specialization
      */
@@ -74,6 +91,16 @@ public interface DoctorProfileService {
      */
     List<DoctorProfile> getDoctorsAcceptingNewPatients();
 
+    /**
+     * Get doctors who speak a language
+     */
+    List<DoctorProfile> getDoctorsByLanguage(String language);
+
+    /**
+     * Get doctors affiliated with a hospital
+     */
+    List<DoctorProfile> getDoctorsByAffiliatedHospital(String hospital);
+
     /**
      * Verify doctor profile
      */
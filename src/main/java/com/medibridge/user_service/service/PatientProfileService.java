@@ -4,6 +4,7 @@ import com.medibridge.user_service.dto.PatientProfileDTO;
 import com.medibridge.user_service.dto.PatientRegisterRequest;
 import com.medibridge.user_service.entity.PatientProfile;
 import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.util.SparseFieldset;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +30,16 @@ public interface PatientProfileService {
      */
     Optional<PatientProfile> getPatientProfileByUsername(String username);
 
+    /**
+     * Get patient profile DTO by user ID, reading only the selected fields
+     */
+    PatientProfileDTO getPatientProfileDTO(UUID userId, SparseFieldset fields);
+
+    /**
+     * Get the entity tag of the patient profile without loading it (empty if there is no profile)
+     */
+    Optional<String> getProfileEntityTag(UUID userId, SparseFieldset fields);
+
     /**
      * Get patient profile by email
      */
@@ -69,6 +80,11 @@ public interface PatientProfileService {
      */
     List<PatientProfile> getPatientsWithGdprConsent();
 
+    /**
+     * Get patients who list the doctor among their preferred doctors
+     */
+    List<PatientProfile> getPatientsByPreferredDoctor(UUID doctorUserId);
+
     /**
      * Grant/revoke medical history access
      */
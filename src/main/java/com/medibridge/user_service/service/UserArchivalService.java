@@ -0,0 +1,173 @@
+package com.medibridge.user_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves users soft-deleted longer than the retention window ago, with their profile, profile
+ * details and refresh token, into the *_archive tables (V6), so the live tables only hold rows
+ * that queries can still return.
+ *
+ * Users are read oldest deletion first in keyset order (deleted_at, id) from idx_users_deleted_at,
+ * a small batch per transaction, with a pause between batches: each transaction locks only its
+ * batch's rows and briefly. Batches are re-locked by id and re-checked before copying, so
+ * instances running the job at the same time archive each user once.
+ * Plain SQL on purpose: entity queries never see soft-deleted rows.
+ */
+@Slf4j
+@Service
+@Lazy(false)
+public class UserArchivalService {
+
+    private static final String FIRST_BATCH = """
+            SELECT id, deleted_at FROM users
+            WHERE is_deleted = 1 AND deleted_at < :cutoff
+            ORDER BY deleted_at, id
+            LIMIT :limit
+            """;
+
+    private static final String NEXT_BATCH = """
+            SELECT id, deleted_at FROM users
+            WHERE is_deleted = 1 AND deleted_at < :cutoff
+              AND (deleted_at > :lastDeletedAt OR (deleted_at = :lastDeletedAt AND id > :lastId))
+            ORDER BY deleted_at, id
+            LIMIT :limit
+            """;
+
+    private static final String LOCK_USERS =
+            "SELECT id FROM users WHERE id IN (:ids) AND is_deleted = 1 AND deleted_at < :cutoff FOR UPDATE";
+
+    // Everything is copied first; the deletes below then go children first, following the foreign keys
+    private static final List<String> COPY = List.of(
+            "INSERT INTO refresh_token_archive SELECT t.*, :archivedAt FROM refresh_token t WHERE t.user_id IN (:ids)",
+            "INSERT INTO user_profile_details_archive SELECT d.*, :archivedAt FROM user_profile_details d "
+                    + "JOIN user_profiles p ON p.details_id = d.id WHERE p.user_id IN (:ids)",
+            "INSERT INTO user_profiles_archive SELECT p.*, :archivedAt FROM user_profiles p WHERE p.user_id IN (:ids)",
+            "INSERT INTO users_archive SELECT u.*, :archivedAt FROM users u WHERE u.id IN (:ids)");
+
+    private static final String DETAILS_IDS =
+            "SELECT details_id FROM user_profiles WHERE user_id IN (:ids) AND details_id IS NOT NULL";
+
+    private static final String DELETE_TOKENS = "DELETE FROM refresh_token WHERE user_id IN (:ids)";
+    private static final String DELETE_PROFILES = "DELETE FROM user_profiles WHERE user_id IN (:ids)";
+    // By primary key: a single-table DELETE with an IN subquery is not turned into a join everywhere
+    private static final String DELETE_DETAILS = "DELETE FROM user_profile_details WHERE id IN (:detailsIds)";
+    private static final String DELETE_USERS = "DELETE FROM users WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long pauseMs;
+
+    public UserArchivalService(NamedParameterJdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${application.archival.enabled:true}") boolean enabled,
+                               @Value("${application.archival.retention-days:30}") int retentionDays,
+                               @Value("${application.archival.batch-size:200}") int batchSize,
+                               @Value("${application.archival.pause-ms:250}") long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+    }
+
+    @Scheduled(cron = "${application.archival.cron:0 30 3 * * *}")
+    public void archiveDeletedUsers() {
+        if (enabled) {
+            archiveDeletedBefore(LocalDateTime.now().minusDays(retentionDays));
+        }
+    }
+
+    /**
+     * Archive every user soft-deleted before the cutoff.
+     *
+     * @return the number of users archived
+     */
+    public int archiveDeletedBefore(LocalDateTime cutoff) {
+        long start = System.nanoTime();
+        int archived = 0;
+        int batches = 0;
+        Candidate last = null;
+        while (true) {
+            List<Candidate> batch = nextBatch(cutoff, last);
+            if (batch.isEmpty()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(status -> archive(batch, cutoff));
+            archived += count == null ? 0 : count;
+            batches++;
+            last = batch.getLast();
+            if (batch.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} users deleted before {} in {} batches, {}ms", archived, cutoff, batches,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        return archived;
+    }
+
+    private List<Candidate> nextBatch(LocalDateTime cutoff, Candidate last) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", batchSize);
+        if (last != null) {
+            params.addValue("lastDeletedAt", last.deletedAt()).addValue("lastId", last.id());
+        }
+        return jdbcTemplate.query(last == null ? FIRST_BATCH : NEXT_BATCH, params,
+                (rs, row) -> new Candidate(rs.getBytes("id"), rs.getTimestamp("deleted_at")));
+    }
+
+    private int archive(List<Candidate> batch, LocalDateTime cutoff) {
+        List<byte[]> candidates = batch.stream().map(Candidate::id).toList();
+        List<byte[]> ids = jdbcTemplate.queryForList(LOCK_USERS, new MapSqlParameterSource()
+                .addValue("ids", candidates)
+                .addValue("cutoff", Timestamp.valueOf(cutoff)), byte[].class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        List<byte[]> detailsIds = jdbcTemplate.queryForList(DETAILS_IDS, params, byte[].class);
+        COPY.forEach(sql -> jdbcTemplate.update(sql, params));
+        jdbcTemplate.update(DELETE_TOKENS, params);
+        jdbcTemplate.update(DELETE_PROFILES, params);
+        if (!detailsIds.isEmpty()) {
+            jdbcTemplate.update(DELETE_DETAILS, new MapSqlParameterSource("detailsIds", detailsIds));
+        }
+        jdbcTemplate.update(DELETE_USERS, params);
+        return ids.size();
+    }
+
+    /**
+     * Throttle between batches; false when interrupted (shutdown), which ends the run
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Candidate(byte[] id, Timestamp deletedAt) {
+    }
+}
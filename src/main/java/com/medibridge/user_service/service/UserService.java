@@ -1,10 +1,14 @@
 package com.medibridge.user_service.service;
 
 import com.medibridge.user_service.dto.request.UserRegistrationRequest;
+import com.medibridge.user_service.dto.response.UserBatchResponse;
 import com.medibridge.user_service.dto.response.UserResponseDTO;
 import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.util.SparseFieldset;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -24,11 +28,31 @@ public interface UserService {
      */
     UserResponseDTO getUserById(UUID userId);
 
+    /**
+     * Get user by ID, reading only the selected fields
+     */
+    UserResponseDTO getUserById(UUID userId, SparseFieldset fields);
+
     /**
      * Get user by username
      */
     UserResponseDTO getUserByUsername(String username);
 
+    /**
+     * Resolve many users by ID, serving cached entries first
+     */
+    UserBatchResponse getUsersByIds(Collection<UUID> userIds);
+
+    /**
+     * Resolve many users by username
+     */
+    UserBatchResponse getUsersByUsernames(Collection<String> usernames);
+
+    /**
+     * Get the current entity tag of a user representation without loading the entity
+     */
+    Optional<String> getUserEntityTag(UUID userId, SparseFieldset fields);
+
     // ==================== PATIENT METHODS ====================
 
     /**
@@ -36,6 +60,11 @@ public interface UserService {
      */
     List<UserResponseDTO> getAllPatients();
 
+    /**
+     * Get all patients, reading only the selected fields
+     */
+    List<UserResponseDTO> getAllPatients(SparseFieldset fields);
+
     /**
      * Get patient count
      */
@@ -48,6 +77,11 @@ public interface UserService {
      */
     List<UserResponseDTO> getAllDoctors();
 
+    /**
+     * Get all doctors, reading only the selected fields
+     */
+    List<UserResponseDTO> getAllDoctors(SparseFieldset fields);
+
     /**
      * Get doctor count
      */
@@ -70,11 +104,22 @@ public interface UserService {
      */
     UserResponseDTO updateUserProfile(UUID userId, UserRegistrationRequest request);
 
+    /**
+     * Update user profile only if the stored version still equals expectedVersion (null = unconditional)
+     * A conditional update returns only the written fields and the new version
+     */
+    UserResponseDTO updateUserProfile(UUID userId, UserRegistrationRequest request, Long expectedVersion);
+
     /**
      * Activate user
      */
     void activateUser(UUID userId);
 
+    /**
+     * Activate user only if the stored version still equals expectedVersion (null = unconditional)
+     */
+    void activateUser(UUID userId, Long expectedVersion);
+
     /**
      * Deactivate user
      */
@@ -85,6 +130,11 @@ public interface UserService {
      */
     void lockUserAccount(UUID userId);
 
+    /**
+     * Lock user account only if the stored version still equals expectedVersion (null = unconditional)
+     */
+    void lockUserAccount(UUID userId, Long expectedVersion);
+
     /**
      * Unlock user account
      */
@@ -116,6 +166,11 @@ public interface UserService {
      * Get all users
      */
     List<UserResponseDTO> getAllUsers();
+
+    /**
+     * Get all users, reading only the selected fields
+     */
+    List<UserResponseDTO> getAllUsers(SparseFieldset fields);
 }
 
 
@@ -1,5 +1,6 @@
 package com.medibridge.user_service.service.impl;
 
+import com.medibridge.user_service.config.CacheConfig;
 import com.medibridge.user_service.dto.AdminProfileDTO;
 import com.medibridge.user_service.dto.AdminRegisterRequest;
 import com.medibridge.user_service.entity.AccountStatus;
@@ -9,6 +10,7 @@ import com.medibridge.user_service.repository.AdminProfileRepository;
 import com.medibridge.user_service.service.AdminProfileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -56,6 +58,7 @@ public class AdminProfileServiceImpl implements AdminProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public AdminProfile updateAdminProfile(UUID userId, AdminProfileDTO dto) {
         AdminProfile adminProfile = adminProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Admin profile not found for user: " + userId));
@@ -103,6 +106,7 @@ public class AdminProfileServiceImpl implements AdminProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void lockAdminAccount(UUID userId) {
         AdminProfile adminProfile = adminProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Admin profile not found for user: " + userId));
@@ -113,6 +117,7 @@ public class AdminProfileServiceImpl implements AdminProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void unlockAdminAccount(UUID userId) {
         AdminProfile adminProfile = adminProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Admin profile not found for user: " + userId));
@@ -124,6 +129,7 @@ public class AdminProfileServiceImpl implements AdminProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void resetFailedLoginAttempts(UUID userId) {
         AdminProfile adminProfile = adminProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Admin profile not found for user: " + userId));
@@ -132,6 +138,7 @@ public class AdminProfileServiceImpl implements AdminProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void incrementFailedLoginAttempts(UUID userId) {
         AdminProfile adminProfile = adminProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Admin profile not found for user: " + userId));
@@ -147,6 +154,7 @@ public class AdminProfileServiceImpl implements AdminProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void enableMFA(UUID userId) {
         AdminProfile adminProfile = adminProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Admin profile not found for user: " + userId));
@@ -156,6 +164,7 @@ public class AdminProfileServiceImpl implements AdminProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void disableMFA(UUID userId) {
         AdminProfile adminProfile = adminProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Admin profile not found for user: " + userId));
@@ -11,6 +11,10 @@ import com.medibridge.user_service.entity.RefreshToken;
 import com.medibridge.user_service.entity.Role;
 import com.medibridge.user_service.entity.User;
 import com.medibridge.user_service.entity.UserProfile;
+import com.medibridge.user_service.observability.jfr.LoginEvent;
+import com.medibridge.user_service.observability.jfr.RegistrationEvent;
+import com.medibridge.user_service.observability.jfr.TokenRefreshEvent;
+import com.medibridge.user_service.observability.jfr.UsernameHash;
 import com.medibridge.user_service.repository.UserRepository;
 import com.medibridge.user_service.service.AdminProfileService;
 import com.medibridge.user_service.service.AuthenticationService;
@@ -18,9 +22,11 @@ import com.medibridge.user_service.service.DoctorProfileService;
 import com.medibridge.user_service.service.PatientProfileService;
 import com.medibridge.user_service.service.RefreshTokenService;
 import com.medibridge.user_service.util.JwtUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -41,9 +47,27 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final AdminProfileService adminProfileService;
     private final DoctorProfileService doctorProfileService;
     private final PatientProfileService patientProfileService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public AuthenticationResponse register(RegisterRequest request) {
+        RegistrationEvent event = new RegistrationEvent();
+        event.begin();
+        try {
+            AuthenticationResponse response = doRegister(request);
+            event.success = true;
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.usernameHash = UsernameHash.of(request.getUsername());
+                event.role = request.getRole() != null ? request.getRole().name() : Role.USER.name();
+                event.commit();
+            }
+        }
+    }
+
+    private AuthenticationResponse doRegister(RegisterRequest request) {
         log.info("Registering user: {} with role: {}", request.getUsername(), request.getRole());
 
         // Determine role
@@ -96,17 +120,43 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         var jwtToken = jwtUtils.generateToken(user);
         var refreshToken = refreshTokenService.createRefreshToken(user.getUsername());
 
+        meterRegistry.counter("medibridge.auth.registrations", "role", role.name()).increment();
+
         return buildAuthenticationResponse(user, jwtToken, refreshToken.getToken());
     }
 
     @Override
     public AuthenticationResponse authenticate(AuthenticationRequest request) {
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        AuthenticationResponse response = null;
+        try {
+            response = doAuthenticate(request);
+            event.success = true;
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.usernameHash = UsernameHash.of(request.getUsername());
+                event.role = response != null && response.getRole() != null ? response.getRole().name() : null;
+                event.commit();
+            }
+        }
+    }
+
+    private AuthenticationResponse doAuthenticate(AuthenticationRequest request) {
         log.info("Authenticating user: {}", request.getUsername());
 
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUsername(),
-                        request.getPassword()));
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getUsername(),
+                            request.getPassword()));
+        } catch (AuthenticationException e) {
+            meterRegistry.counter("medibridge.auth.logins", "outcome", "failure",
+                    "reason", e.getClass().getSimpleName()).increment();
+            throw e;
+        }
 
         var user = repository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -119,21 +169,51 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             patientProfileService.updateLastLoginTime(user.getId());
         }
 
+        meterRegistry.counter("medibridge.auth.logins", "outcome", "success", "reason", "none").increment();
+
         return buildAuthenticationResponse(user, jwtToken, refreshToken.getToken());
     }
 
     @Override
     public AuthenticationResponse refreshToken(TokenRefreshRequest request) {
+        TokenRefreshEvent event = new TokenRefreshEvent();
+        event.begin();
+        AuthenticationResponse response = null;
+        try {
+            response = doRefreshToken(request);
+            event.success = true;
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                if (response != null) {
+                    event.usernameHash = UsernameHash.of(response.getUsername());
+                    event.role = response.getRole() != null ? response.getRole().name() : null;
+                }
+                event.commit();
+            }
+        }
+    }
+
+    private AuthenticationResponse doRefreshToken(TokenRefreshRequest request) {
         String requestRefreshToken = request.getRefreshToken();
 
-        return refreshTokenService.findByToken(requestRefreshToken)
-                .map(refreshTokenService::verifyExpiration)
-                .map(RefreshToken::getUser)
-                .map(user -> {
-                    String token = jwtUtils.generateToken(user);
-                    return buildAuthenticationResponse(user, token, requestRefreshToken);
-                })
-                .orElseThrow(() -> new RuntimeException("Refresh token is not in database!"));
+        try {
+            AuthenticationResponse response = refreshTokenService.findByToken(requestRefreshToken)
+                    .map(refreshTokenService::verifyExpiration)
+                    .map(RefreshToken::getUser)
+                    .map(user -> {
+                        String token = jwtUtils.generateToken(user);
+                        return buildAuthenticationResponse(user, token, requestRefreshToken);
+                    })
+                    .orElseThrow(() -> new RuntimeException("Refresh token is not in database!"));
+            meterRegistry.counter("medibridge.auth.refreshes", "outcome", "success").increment();
+            return response;
+        } catch (RuntimeException e) {
+            // Unknown or expired refresh token
+            meterRegistry.counter("medibridge.auth.refreshes", "outcome", "failure").increment();
+            throw e;
+        }
     }
 
     /**
@@ -1,14 +1,22 @@
 package com.medibridge.user_service.service.impl;
 
+import com.medibridge.user_service.config.CacheConfig;
 import com.medibridge.user_service.dto.DoctorProfileDTO;
 import com.medibridge.user_service.dto.DoctorRegisterRequest;
 import com.medibridge.user_service.entity.AccountStatus;
 import com.medibridge.user_service.entity.DoctorProfile;
 import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.exception.ResourceNotFoundException;
+import com.medibridge.user_service.exception.PreconditionFailedException;
 import com.medibridge.user_service.repository.DoctorProfileRepository;
+import com.medibridge.user_service.repository.ProjectionRepository;
 import com.medibridge.user_service.service.DoctorProfileService;
+import com.medibridge.user_service.util.EntityTagUtil;
+import com.medibridge.user_service.util.SparseFieldset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +31,7 @@ import java.util.UUID;
 public class DoctorProfileServiceImpl implements DoctorProfileService {
 
     private final DoctorProfileRepository doctorProfileRepository;
+    private final ProjectionRepository projectionRepository;
 
     @Override
     public DoctorProfile createDoctorProfile(User user, DoctorRegisterRequest request) {
@@ -43,10 +52,8 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
                 .medicalRegistration(request.getMedicalRegistration())
                 .npiNumber(request.getNpiNumber())
                 .department(request.getDepartment())
-                .qualifications(request.getQualifications())
                 .clinicAddress(request.getClinicAddress())
                 .clinicPhoneNumber(request.getClinicPhoneNumber())
-                .consultationHours(request.getConsultationHours())
                 .maxPatientsPerDay(request.getMaxPatientsPerDay())
                 .consultationDurationMinutes(request.getConsultationDurationMinutes() != null ? request.getConsultationDurationMinutes() : 30)
                 .consultationFee(request.getConsultationFee())
@@ -61,6 +68,8 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
                 .totalConsultations(0)
                 .averageRating(0.0)
                 .build();
+        doctorProfile.setQualifications(request.getQualifications());
+        doctorProfile.setConsultationHours(request.getConsultationHours());
 
         return doctorProfileRepository.save(doctorProfile);
     }
@@ -70,6 +79,26 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
         return doctorProfileRepository.findByUserId(userId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public DoctorProfileDTO getDoctorProfileDTO(UUID userId, SparseFieldset fields) {
+        if (fields.isAll()) {
+            return toDTO(doctorProfileRepository.findByUserId(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Doctor profile", "userId", userId)));
+        }
+        // version is always read so the sparse representation still gets an ETag
+        return projectionRepository.findOne(DoctorProfile.class, "userId", userId,
+                        fields.with("version").names(), DoctorProfileDTO::new)
+                .orElseThrow(() -> new ResourceNotFoundException("Doctor profile", "userId", userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getProfileEntityTag(UUID userId, SparseFieldset fields) {
+        return doctorProfileRepository.findVersionByUserId(userId)
+                .map(version -> EntityTagUtil.ofProfile(userId, version, fields));
+    }
+
     @Override
     public Optional<DoctorProfile> getDoctorProfileByUsername(String username) {
         return doctorProfileRepository.findByUsername(username);
@@ -86,10 +115,82 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public DoctorProfile updateDoctorProfile(UUID userId, DoctorProfileDTO dto) {
         DoctorProfile doctorProfile = doctorProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("Doctor profile not found for user: " + userId));
+                .orElseThrow(() -> new ResourceNotFoundException("Doctor profile", "userId", userId));
+
+        applyUpdate(doctorProfile, dto);
+
+        log.info("Updated doctor profile for user: {}", userId);
+        return doctorProfileRepository.save(doctorProfile);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
+    public DoctorProfileDTO updateDoctorProfile(UUID userId, DoctorProfileDTO dto, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return toDTO(updateDoctorProfile(userId, dto));
+        }
+        if (dto.getQualifications() != null || dto.getLanguages() != null) {
+            return toDTO(updateDoctorProfileThroughEntity(userId, dto, expectedVersion));
+        }
+
+        long updatedAt = System.currentTimeMillis();
+        int rows = doctorProfileRepository.updateIfVersionMatches(userId, expectedVersion,
+                dto.getFirstName(), dto.getLastName(), dto.getSpecialization(), dto.getDepartment(),
+                dto.getClinicAddress(), dto.getConsultationFee(), dto.getMaxPatientsPerDay(),
+                dto.getIsAcceptingNewPatients(), dto.getOfficeLocation(), updatedAt);
+        if (rows == 0) {
+            if (!doctorProfileRepository.existsByUserId(userId)) {
+                throw new ResourceNotFoundException("Doctor profile", "userId", userId);
+            }
+            throw new PreconditionFailedException("Doctor profile", userId, expectedVersion);
+        }
+        log.info("Updated doctor profile for user: {} (expected version {})", userId, expectedVersion);
 
+        // Built from the request instead of re-read: it carries the written fields and the new version
+        return DoctorProfileDTO.builder()
+                .userId(userId)
+                .firstName(dto.getFirstName())
+                .lastName(dto.getLastName())
+                .specialization(dto.getSpecialization())
+                .department(dto.getDepartment())
+                .clinicAddress(dto.getClinicAddress())
+                .consultationFee(dto.getConsultationFee())
+                .maxPatientsPerDay(dto.getMaxPatientsPerDay())
+                .isAcceptingNewPatients(dto.getIsAcceptingNewPatients())
+                .officeLocation(dto.getOfficeLocation())
+                .updatedAt(updatedAt)
+                .version(expectedVersion + 1)
+                .build();
+    }
+
+    /**
+     * Versioned update of list values: qualifications live in the details side table, which may not have a row yet,
+     * and list columns need the entity's JSON converter, so the profile is loaded and the version checked on flush
+     */
+    private DoctorProfile updateDoctorProfileThroughEntity(UUID userId, DoctorProfileDTO dto, Long expectedVersion) {
+        DoctorProfile doctorProfile = doctorProfileRepository.findByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Doctor profile", "userId", userId));
+        if (!expectedVersion.equals(doctorProfile.getVersion())) {
+            throw new PreconditionFailedException("Doctor profile", userId, expectedVersion);
+        }
+
+        applyUpdate(doctorProfile, dto);
+        // Set explicitly so a change confined to the details side table still bumps the profile version
+        doctorProfile.setUpdatedAt(System.currentTimeMillis());
+        try {
+            DoctorProfile updated = doctorProfileRepository.saveAndFlush(doctorProfile);
+            log.info("Updated doctor profile for user: {} (expected version {})", userId, expectedVersion);
+            return updated;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new PreconditionFailedException("Doctor profile", userId, expectedVersion);
+        }
+    }
+
+    // Status is left out on purpose: it only changes through verifyDoctor/rejectDoctorVerification
+    private void applyUpdate(DoctorProfile doctorProfile, DoctorProfileDTO dto) {
         if (dto.getFirstName() != null) doctorProfile.setFirstName(dto.getFirstName());
         if (dto.getLastName() != null) doctorProfile.setLastName(dto.getLastName());
         if (dto.getSpecialization() != null) doctorProfile.setSpecialization(dto.getSpecialization());
@@ -101,10 +202,6 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
         if (dto.getIsAcceptingNewPatients() != null) doctorProfile.setIsAcceptingNewPatients(dto.getIsAcceptingNewPatients());
         if (dto.getOfficeLocation() != null) doctorProfile.setOfficeLocation(dto.getOfficeLocation());
         if (dto.getLanguages() != null) doctorProfile.setLanguages(dto.getLanguages());
-        if (dto.getStatus() != null) doctorProfile.setStatus(dto.getStatus());
-
-        log.info("Updated doctor profile for user: {}", userId);
-        return doctorProfileRepository.save(doctorProfile);
     }
 
     @Override
@@ -138,6 +235,17 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
     }
 
     @Override
+    public List<DoctorProfile> getDoctorsByLanguage(String language) {
+        return doctorProfileRepository.findByLanguage(language);
+    }
+
+    @Override
+    public List<DoctorProfile> getDoctorsByAffiliatedHospital(String hospital) {
+        return doctorProfileRepository.findByAffiliatedHospital(hospital);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void verifyDoctor(UUID userId, String verifiedBy) {
         DoctorProfile doctorProfile = doctorProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Doctor profile not found for user: " + userId));
@@ -150,6 +258,7 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void rejectDoctorVerification(UUID userId) {
         DoctorProfile doctorProfile = doctorProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Doctor profile not found for user: " + userId));
@@ -160,6 +269,7 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void updateAvailabilitySchedule(UUID userId, String scheduleJson) {
         DoctorProfile doctorProfile = doctorProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Doctor profile not found for user: " + userId));
@@ -170,6 +280,7 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void updateConsultationFee(UUID userId, Double fee) {
         DoctorProfile doctorProfile = doctorProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Doctor profile not found for user: " + userId));
@@ -178,6 +289,7 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void updateAverageRating(UUID userId, Double rating) {
         DoctorProfile doctorProfile = doctorProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Doctor profile not found for user: " + userId));
@@ -186,6 +298,7 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void incrementConsultationCount(UUID userId) {
         DoctorProfile doctorProfile = doctorProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Doctor profile not found for user: " + userId));
@@ -204,6 +317,7 @@ public class DoctorProfileServiceImpl implements DoctorProfileService {
                 .status(profile.getStatus())
                 .createdAt(profile.getCreatedAt())
                 .updatedAt(profile.getUpdatedAt())
+                .version(profile.getVersion())
                 .firstName(profile.getFirstName())
                 .lastName(profile.getLastName())
                 .licenseNumber(profile.getLicenseNumber())
@@ -1,14 +1,20 @@
 package com.medibridge.user_service.service.impl;
 
+import com.medibridge.user_service.config.CacheConfig;
 import com.medibridge.user_service.dto.PatientProfileDTO;
 import com.medibridge.user_service.dto.PatientRegisterRequest;
 import com.medibridge.user_service.entity.AccountStatus;
 import com.medibridge.user_service.entity.PatientProfile;
 import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.exception.ResourceNotFoundException;
 import com.medibridge.user_service.repository.PatientProfileRepository;
+import com.medibridge.user_service.repository.ProjectionRepository;
 import com.medibridge.user_service.service.PatientProfileService;
+import com.medibridge.user_service.util.EntityTagUtil;
+import com.medibridge.user_service.util.SparseFieldset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +29,7 @@ import java.util.UUID;
 public class PatientProfileServiceImpl implements PatientProfileService {
 
     private final PatientProfileRepository patientProfileRepository;
+    private final ProjectionRepository projectionRepository;
 
     @Override
     public PatientProfile createPatientProfile(User user, PatientRegisterRequest request) {
@@ -45,8 +52,6 @@ public class PatientProfileServiceImpl implements PatientProfileService {
                 .insuranceGroupNumber(request.getInsuranceGroupNumber())
                 .insurancePolicyExpiryDate(request.getInsurancePolicyExpiryDate())
                 .bloodGroup(request.getBloodGroup())
-                .medicalConditions(request.getMedicalConditions())
-                .allergies(request.getAllergies())
                 .emergencyContactName(request.getEmergencyContactName())
                 .emergencyContactPhone(request.getEmergencyContactPhone())
                 .emergencyContactRelation(request.getEmergencyContactRelation())
@@ -65,6 +70,8 @@ public class PatientProfileServiceImpl implements PatientProfileService {
                 .medicalHistoryAccessGranted(false)
                 .createdAt(System.currentTimeMillis())
                 .build();
+        patientProfile.setMedicalConditions(request.getMedicalConditions());
+        patientProfile.setAllergies(request.getAllergies());
 
         return patientProfileRepository.save(patientProfile);
     }
@@ -74,6 +81,26 @@ public class PatientProfileServiceImpl implements PatientProfileService {
         return patientProfileRepository.findByUserId(userId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PatientProfileDTO getPatientProfileDTO(UUID userId, SparseFieldset fields) {
+        if (fields.isAll()) {
+            return toDTO(patientProfileRepository.findByUserId(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Patient profile", "userId", userId)));
+        }
+        // version is always read so the sparse representation still gets an ETag
+        return projectionRepository.findOne(PatientProfile.class, "userId", userId,
+                        fields.with("version").names(), PatientProfileDTO::new)
+                .orElseThrow(() -> new ResourceNotFoundException("Patient profile", "userId", userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getProfileEntityTag(UUID userId, SparseFieldset fields) {
+        return patientProfileRepository.findVersionByUserId(userId)
+                .map(version -> EntityTagUtil.ofProfile(userId, version, fields));
+    }
+
     @Override
     public Optional<PatientProfile> getPatientProfileByUsername(String username) {
         return patientProfileRepository.findByUsername(username);
@@ -90,6 +117,7 @@ public class PatientProfileServiceImpl implements PatientProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public PatientProfile updatePatientProfile(UUID userId, PatientProfileDTO dto) {
         PatientProfile patientProfile = patientProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Patient profile not found for user: " + userId));
@@ -144,6 +172,12 @@ public class PatientProfileServiceImpl implements PatientProfileService {
     }
 
     @Override
+    public List<PatientProfile> getPatientsByPreferredDoctor(UUID doctorUserId) {
+        return patientProfileRepository.findByPreferredDoctorId(doctorUserId);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void grantMedicalHistoryAccess(UUID userId) {
         PatientProfile patientProfile = patientProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Patient profile not found for user: " + userId));
@@ -153,6 +187,7 @@ public class PatientProfileServiceImpl implements PatientProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void revokeMedicalHistoryAccess(UUID userId) {
         PatientProfile patientProfile = patientProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Patient profile not found for user: " + userId));
@@ -162,6 +197,7 @@ public class PatientProfileServiceImpl implements PatientProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void enableTwoFactorAuth(UUID userId) {
         PatientProfile patientProfile = patientProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Patient profile not found for user: " + userId));
@@ -171,6 +207,7 @@ public class PatientProfileServiceImpl implements PatientProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void disableTwoFactorAuth(UUID userId) {
         PatientProfile patientProfile = patientProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Patient profile not found for user: " + userId));
@@ -180,6 +217,7 @@ public class PatientProfileServiceImpl implements PatientProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void updateLastLoginTime(UUID userId) {
         PatientProfile patientProfile = patientProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Patient profile not found for user: " + userId));
@@ -188,6 +226,7 @@ public class PatientProfileServiceImpl implements PatientProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void updateLastConsultationDate(UUID userId) {
         PatientProfile patientProfile = patientProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Patient profile not found for user: " + userId));
@@ -196,6 +235,7 @@ public class PatientProfileServiceImpl implements PatientProfileService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void acceptGdprAndTerms(UUID userId) {
         PatientProfile patientProfile = patientProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Patient profile not found for user: " + userId));
@@ -216,6 +256,7 @@ public class PatientProfileServiceImpl implements PatientProfileService {
                 .status(profile.getStatus())
                 .createdAt(profile.getCreatedAt())
                 .updatedAt(profile.getUpdatedAt())
+                .version(profile.getVersion())
                 .firstName(profile.getFirstName())
                 .lastName(profile.getLastName())
                 .dateOfBirth(profile.getDateOfBirth())
@@ -1,21 +1,45 @@
 package com.medibridge.user_service.service.impl;
 
 import com.medibridge.user_service.Mapper.UserMapper;
+import com.medibridge.user_service.config.CacheConfig;
 import com.medibridge.user_service.dto.request.UserRegistrationRequest;
+import com.medibridge.user_service.dto.response.UserBatchResponse;
 import com.medibridge.user_service.dto.response.UserResponseDTO;
+import com.medibridge.user_service.entity.Role;
 import com.medibridge.user_service.entity.User;
 
+import com.medibridge.user_service.exception.BusinessLogicException;
+import com.medibridge.user_service.exception.InvalidRequestException;
+import com.medibridge.user_service.exception.PreconditionFailedException;
 import com.medibridge.user_service.exception.UserAlreadyExistsException;
 import com.medibridge.user_service.exception.UserNotFoundException;
+import com.medibridge.user_service.repository.ProjectionRepository;
 import com.medibridge.user_service.repository.UserRepository;
 import com.medibridge.user_service.service.UserService;
-import lombok.RequiredArgsConstructor;
+import com.medibridge.user_service.util.EntityTagUtil;
+import com.medibridge.user_service.util.SparseFieldset;
+import com.medibridge.user_service.validation.BreachedPasswordPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -24,13 +48,34 @@ import java.util.stream.Collectors;
  * Handles all user-related business logic
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final CacheManager cacheManager;
+    private final ProjectionRepository projectionRepository;
+    private final BreachedPasswordPolicy breachedPasswordPolicy;
+    private final Timer mappingTimer;
+
+    @Value("${application.users.batch.max-ids:5000}")
+    private int batchMaxIds;
+
+    @Value("${application.users.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder,
+                           CacheManager cacheManager, ProjectionRepository projectionRepository,
+                           MeterRegistry meterRegistry, BreachedPasswordPolicy breachedPasswordPolicy) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.cacheManager = cacheManager;
+        this.projectionRepository = projectionRepository;
+        this.breachedPasswordPolicy = breachedPasswordPolicy;
+        this.mappingTimer = meterRegistry.timer("medibridge.mapping", "mapper", "user");
+    }
 
     // ==================== RETRIEVAL METHODS ====================
 
@@ -41,7 +86,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
 
-        return userMapper.userToUserResponseDTO(user);
+        return toDTO(user);
     }
 
     @Override
@@ -51,7 +96,20 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
 
-        return userMapper.userToUserResponseDTO(user);
+        return toDTO(user);
+    }
+
+    @Override
+    public UserResponseDTO getUserById(UUID userId, SparseFieldset fields) {
+        if (fields.isAll()) {
+            return getUserById(userId);
+        }
+        log.info("Getting user by ID: {} (fields={})", userId, fields.key());
+
+        // version is always read so the sparse representation still gets an ETag
+        return projectionRepository.findOne(User.class, "id", userId,
+                        fields.with("version").names(), UserResponseDTO::new)
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
     }
 
     @Override
@@ -61,7 +119,104 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("User not found with username: " + username));
 
-        return userMapper.userToUserResponseDTO(user);
+        return toDTO(user);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserBatchResponse getUsersByIds(Collection<UUID> userIds) {
+        Set<UUID> requested = new LinkedHashSet<>(userIds);
+        requested.remove(null);
+        requireBatchSize(requested.size());
+
+        Cache cache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        Map<UUID, UserResponseDTO> found = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID id : requested) {
+            UserResponseDTO cached = cache != null ? cache.get(id, UserResponseDTO.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        int cacheHits = found.size();
+
+        for (List<UUID> chunk : chunk(misses)) {
+            for (User user : userRepository.findAllWithProfileByIdIn(chunk)) {
+                UserResponseDTO dto = toDTO(user);
+                found.put(user.getId(), dto);
+                if (cache != null) {
+                    cache.put(user.getId(), dto);
+                }
+            }
+        }
+
+        List<UserResponseDTO> users = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : requested) {
+            UserResponseDTO dto = found.get(id);
+            if (dto != null) {
+                users.add(dto);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        log.info("Batch user lookup by ID - requested={}, cacheHits={}, missing={}",
+                requested.size(), cacheHits, missingIds.size());
+        return UserBatchResponse.builder()
+                .users(users)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserBatchResponse getUsersByUsernames(Collection<String> usernames) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String username : usernames) {
+            if (username != null && !username.isBlank()) {
+                requested.add(username);
+            }
+        }
+        requireBatchSize(requested.size());
+
+        Cache cache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        Map<String, UserResponseDTO> found = new HashMap<>();
+        for (List<String> chunk : chunk(new ArrayList<>(requested))) {
+            for (User user : userRepository.findAllWithProfileByUsernameIn(chunk)) {
+                UserResponseDTO dto = toDTO(user);
+                found.put(user.getUsername(), dto);
+                if (cache != null) {
+                    cache.put(user.getId(), dto);
+                }
+            }
+        }
+
+        List<UserResponseDTO> users = new ArrayList<>(found.size());
+        List<String> missingUsernames = new ArrayList<>();
+        for (String username : requested) {
+            UserResponseDTO dto = found.get(username);
+            if (dto != null) {
+                users.add(dto);
+            } else {
+                missingUsernames.add(username);
+            }
+        }
+
+        log.info("Batch user lookup by username - requested={}, missing={}",
+                requested.size(), missingUsernames.size());
+        return UserBatchResponse.builder()
+                .users(users)
+                .missingUsernames(missingUsernames)
+                .build();
+    }
+
+    @Override
+    public Optional<String> getUserEntityTag(UUID userId, SparseFieldset fields) {
+        return userRepository.findVersionsById(userId)
+                .map(versions -> EntityTagUtil.of(userId, versions.getVersion(), versions.getProfileVersion(), fields));
     }
 
     // ==================== PATIENT METHODS ====================
@@ -72,10 +227,20 @@ public class UserServiceImpl implements UserService {
 
         return userRepository.findAllPatients()
                 .stream()
-                .map(userMapper::userToUserResponseDTO)
+                .map(this::toDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<UserResponseDTO> getAllPatients(SparseFieldset fields) {
+        if (fields.isAll()) {
+            return getAllPatients();
+        }
+        log.info("Getting all patients (fields={})", fields.key());
+        return projectionRepository.findAll(User.class, Map.of("role", Role.PATIENT),
+                fields.names(), UserResponseDTO::new);
+    }
+
     @Override
     public long getTotalPatientCount() {
         log.info("Getting total patient count");
@@ -90,10 +255,20 @@ public class UserServiceImpl implements UserService {
 
         return userRepository.findAllDoctors()
                 .stream()
-                .map(userMapper::userToUserResponseDTO)
+                .map(this::toDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<UserResponseDTO> getAllDoctors(SparseFieldset fields) {
+        if (fields.isAll()) {
+            return getAllDoctors();
+        }
+        log.info("Getting all doctors (fields={})", fields.key());
+        return projectionRepository.findAll(User.class, Map.of("role", Role.DOCTOR),
+                fields.names(), UserResponseDTO::new);
+    }
+
     @Override
     public long getTotalDoctorCount() {
         log.info("Getting total doctor count");
@@ -102,6 +277,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#doctorId")
     public void verifyDoctor(UUID doctorId) {
         log.info("Verifying doctor: {}", doctorId);
 
@@ -114,6 +290,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#doctorId")
     public void rejectDoctorVerification(UUID doctorId, String reason) {
         log.info("Rejecting doctor verification: {} - Reason: {}", doctorId, reason);
 
@@ -127,6 +304,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public UserResponseDTO updateUserProfile(UUID userId, UserRegistrationRequest request) {
         log.info("Updating user profile: {}", userId);
 
@@ -150,14 +328,48 @@ public class UserServiceImpl implements UserService {
             user.setEmail(request.getEmail());
         }
 
-        User updated = userRepository.save(user);
+        // Flush so the returned DTO carries the incremented version used for the ETag
+        User updated = userRepository.saveAndFlush(user);
         log.info("User profile updated: {}", userId);
 
-        return userMapper.userToUserResponseDTO(updated);
+        return toDTO(updated);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
+    public UserResponseDTO updateUserProfile(UUID userId, UserRegistrationRequest request, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return updateUserProfile(userId, request);
+        }
+        log.info("Updating user profile: {} (expected version {})", userId, expectedVersion);
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        int rows;
+        try {
+            // The idx_email unique key settles email conflicts, so the write is the only statement
+            rows = userRepository.updateProfileIfVersionMatches(userId, expectedVersion,
+                    request.getFullName(), request.getPhoneNumber(), request.getEmail(), updatedAt);
+        } catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyExistsException(request.getEmail());
+        }
+        requireVersionedUpdate(rows, userId, expectedVersion);
+        log.info("User profile updated: {}", userId);
+
+        // Built from the request instead of re-read: it carries the written fields and the new version
+        return UserResponseDTO.builder()
+                .id(userId)
+                .fullName(request.getFullName())
+                .phoneNumber(request.getPhoneNumber())
+                .email(request.getEmail())
+                .updatedAt(updatedAt)
+                .version(expectedVersion + 1)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void activateUser(UUID userId) {
         log.info("Activating user: {}", userId);
 
@@ -172,6 +384,23 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
+    public void activateUser(UUID userId, Long expectedVersion) {
+        if (expectedVersion == null) {
+            activateUser(userId);
+            return;
+        }
+        log.info("Activating user: {} (expected version {})", userId, expectedVersion);
+
+        int rows = userRepository.activateIfVersionMatches(userId, expectedVersion, LocalDateTime.now());
+        requireVersionedUpdate(rows, userId, expectedVersion);
+
+        log.info("User activated: {}", userId);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void deactivateUser(UUID userId) {
         log.info("Deactivating user: {}", userId);
 
@@ -186,6 +415,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void lockUserAccount(UUID userId) {
         log.info("Locking user account: {}", userId);
 
@@ -200,6 +430,23 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
+    public void lockUserAccount(UUID userId, Long expectedVersion) {
+        if (expectedVersion == null) {
+            lockUserAccount(userId);
+            return;
+        }
+        log.info("Locking user account: {} (expected version {})", userId, expectedVersion);
+
+        int rows = userRepository.lockIfVersionMatches(userId, expectedVersion, LocalDateTime.now());
+        requireVersionedUpdate(rows, userId, expectedVersion);
+
+        log.info("User account locked: {}", userId);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void unlockUserAccount(UUID userId) {
         log.info("Unlocking user account: {}", userId);
 
@@ -215,6 +462,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void softDeleteUser(UUID userId) {
         log.info("Soft deleting user: {}", userId);
 
@@ -222,6 +470,9 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
 
         user.setIsDeleted(true);
+        if (user.getProfile() != null) {
+            user.getProfile().setIsDeleted(true);
+        }
         userRepository.save(user);
 
         log.info("User soft deleted: {}", userId);
@@ -229,6 +480,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
     public void resetPassword(UUID userId, String newPassword) {
         log.info("Resetting password for user: {}", userId);
 
@@ -239,6 +491,10 @@ public class UserServiceImpl implements UserService {
         if (newPassword == null || newPassword.length() < 8) {
             throw new IllegalArgumentException("Password must be at least 8 characters long");
         }
+        if (breachedPasswordPolicy.isBreached(newPassword)) {
+            throw new BusinessLogicException("Password has appeared in a data breach, please choose a different one",
+                    "PASSWORD_BREACHED");
+        }
 
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
@@ -266,8 +522,55 @@ public class UserServiceImpl implements UserService {
 
         return userRepository.findAll()
                 .stream()
-                .map(userMapper::userToUserResponseDTO)
+                .map(this::toDTO)
                 .collect(Collectors.toList());
     }
-}
 
+    /**
+     * A versioned UPDATE that touched no rows either lost a race or targeted a missing user.
+     * The existence check only runs on that failure path.
+     */
+    private void requireVersionedUpdate(int rows, UUID userId, Long expectedVersion) {
+        if (rows > 0) {
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found with ID: " + userId);
+        }
+        throw new PreconditionFailedException("User", userId, expectedVersion);
+    }
+
+    @Override
+    public List<UserResponseDTO> getAllUsers(SparseFieldset fields) {
+        if (fields.isAll()) {
+            return getAllUsers();
+        }
+        log.info("Getting all users (fields={})", fields.key());
+        return projectionRepository.findAll(User.class, Map.of(), fields.names(), UserResponseDTO::new);
+    }
+
+    /**
+     * Map to the response DTO, timing the mapping (including any lazy profile load it triggers)
+     */
+    private UserResponseDTO toDTO(User user) {
+        return mappingTimer.record(() -> userMapper.userToUserResponseDTO(user));
+    }
+
+    private void requireBatchSize(int size) {
+        if (size > batchMaxIds) {
+            throw new InvalidRequestException(
+                    String.format("Batch lookup accepts at most %d entries, got %d", batchMaxIds, size));
+        }
+    }
+
+    /**
+     * Split keys into IN-list sized chunks so no single query exceeds the configured size.
+     */
+    private <T> List<List<T>> chunk(List<T> keys) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += batchChunkSize) {
+            chunks.add(keys.subList(from, Math.min(from + batchChunkSize, keys.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,63 @@
+package com.medibridge.user_service.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generator for ULID-style correlation IDs.
+ * 26 Crockford base32 characters: 48-bit millisecond timestamp followed by 80 bits of entropy,
+ * so IDs sort by creation time. Entropy comes from ThreadLocalRandom, so there is no shared
+ * SecureRandom to contend on; within the same millisecond on a thread the entropy is incremented,
+ * keeping IDs from one thread strictly monotonic.
+ */
+public final class CorrelationIdGenerator {
+
+    public static final int LENGTH = 26;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int TIME_CHARS = 10;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private CorrelationIdGenerator() {
+    }
+
+    /**
+     * Generate a new ID.
+     * @return 26-character ULID-style string
+     */
+    public static String next() {
+        State state = STATE.get();
+        long now = System.currentTimeMillis();
+        if (now > state.lastMillis) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            state.lastMillis = now;
+            state.randomHigh = random.nextInt() & 0xFFFF;
+            state.randomLow = random.nextLong();
+        } else if (++state.randomLow == 0) {
+            // Same (or earlier, if the clock stepped back) millisecond: keep counting from the last ID
+            state.randomHigh = (state.randomHigh + 1) & 0xFFFF;
+        }
+        return encode(state.lastMillis, state.randomHigh, state.randomLow);
+    }
+
+    private static String encode(long millis, long high, long low) {
+        char[] chars = new char[LENGTH];
+        long time = millis;
+        for (int i = TIME_CHARS - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (time & 31)];
+            time >>>= 5;
+        }
+        for (int i = LENGTH - 1; i >= TIME_CHARS; i--) {
+            chars[i] = ALPHABET[(int) (low & 31)];
+            low = (low >>> 5) | ((high & 31) << 59);
+            high >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static final class State {
+        private long lastMillis;
+        private long randomHigh;
+        private long randomLow;
+    }
+}
@@ -3,8 +3,6 @@ package com.medibridge.user_service.util;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 /**
  * Utility class for managing correlation IDs across the application.
  * Uses SLF4J MDC (Mapped Diagnostic Context) for thread-safe correlation ID tracking.
@@ -14,6 +12,7 @@ public class CorrelationIdUtil {
 
     private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
     private static final String CORRELATION_ID_MDC_KEY = "correlationId";
+    private static final int MAX_INBOUND_LENGTH = 64;
 
     /**
      * Get the current correlation ID from MDC.
@@ -42,11 +41,33 @@ public class CorrelationIdUtil {
         if (existing != null && !existing.isBlank()) {
             return existing;
         }
-        String newId = UUID.randomUUID().toString();
+        String newId = CorrelationIdGenerator.next();
         MDC.put(CORRELATION_ID_MDC_KEY, newId);
         return newId;
     }
 
+    /**
+     * Check whether an inbound correlation ID is safe to adopt.
+     * Accepts 1-64 characters from [A-Za-z0-9-_.:], which covers UUIDs, ULIDs and
+     * gateway-generated IDs while keeping log lines and headers free of injected content.
+     * @param correlationId raw header value (may be null)
+     * @return true if the value can be used as-is
+     */
+    public static boolean isValid(String correlationId) {
+        if (correlationId == null || correlationId.isEmpty() || correlationId.length() > MAX_INBOUND_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < correlationId.length(); i++) {
+            char c = correlationId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == ':';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Clear the correlation ID from MDC.
      */
@@ -62,4 +83,3 @@ public class CorrelationIdUtil {
         return CORRELATION_ID_HEADER;
     }
 }
-
@@ -0,0 +1,213 @@
+package com.medibridge.user_service.util;
+
+import com.medibridge.user_service.dto.response.UserResponseDTO;
+import com.medibridge.user_service.exception.PreconditionFailedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Utility class for building and comparing HTTP entity tags.
+ * Tags are derived from the entity ID and its optimistic locking version,
+ * so they change whenever the row is updated.
+ */
+public final class EntityTagUtil {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+    private static final String PROFILE_MARKER = "p";
+
+    private EntityTagUtil() {
+    }
+
+    /**
+     * Build a strong entity tag for the given entity ID and version.
+     * @param id entity ID
+     * @param version entity version
+     * @return quoted entity tag, e.g. "3f1c...-4"
+     */
+    public static String of(UUID id, Long version) {
+        return "\"" + id + "-" + (version == null ? 0L : version) + "\"";
+    }
+
+    /**
+     * Build a strong entity tag for a sparse representation of the entity.
+     * Each field selection is a distinct representation and gets its own tag.
+     * @param id entity ID
+     * @param version entity version
+     * @param fields selected fields
+     * @return quoted entity tag, e.g. "3f1c...-4.fullName+id+role"
+     */
+    public static String of(UUID id, Long version, SparseFieldset fields) {
+        if (fields.isAll()) {
+            return of(id, version);
+        }
+        return "\"" + id + "-" + (version == null ? 0L : version) + "." + fields.key() + "\"";
+    }
+
+    /**
+     * Build a strong entity tag for a user representation that may embed its profile.
+     * The full representation includes the profile, so the profile version is part of its tag
+     * and a profile write changes it; sparse representations never include the profile.
+     * @param id user ID
+     * @param version user version
+     * @param profileVersion profile version (null if the user has no profile)
+     * @param fields selected fields
+     * @return quoted entity tag, e.g. "3f1c...-4.2" or "3f1c...-4.fullName+id+role"
+     */
+    public static String of(UUID id, Long version, Long profileVersion, SparseFieldset fields) {
+        if (fields.isAll() && profileVersion != null) {
+            return "\"" + id + "-" + (version == null ? 0L : version) + "." + profileVersion + "\"";
+        }
+        return of(id, version, fields);
+    }
+
+    /**
+     * Build the entity tag of a user response.
+     * @param id user ID (a sparse representation only carries it when selected)
+     * @param user user representation, loaded with the given field selection
+     * @param fields selected fields
+     * @return quoted entity tag
+     */
+    public static String of(UUID id, UserResponseDTO user, SparseFieldset fields) {
+        return of(id, user.getVersion(), user.getProfileVersion(), fields);
+    }
+
+    /**
+     * Build the entity tag of a full user response.
+     * @param user full user representation
+     * @return quoted entity tag
+     */
+    public static String of(UserResponseDTO user) {
+        return of(user.getId(), user, SparseFieldset.ALL);
+    }
+
+    /**
+     * Build a strong entity tag for a user's profile details.
+     * The version is marked so the tag never collides with a tag of the user itself,
+     * whose version is a different counter.
+     * @param userId ID of the user owning the profile
+     * @param version profile version
+     * @param fields selected fields
+     * @return quoted entity tag, e.g. "3f1c...-p2" or "3f1c...-p2.firstName+version"
+     */
+    public static String ofProfile(UUID userId, Long version, SparseFieldset fields) {
+        String tag = "\"" + userId + "-" + PROFILE_MARKER + (version == null ? 0L : version);
+        return fields.isAll() ? tag + "\"" : tag + "." + fields.key() + "\"";
+    }
+
+    /**
+     * Check whether an If-None-Match header matches the current entity tag.
+     * Uses weak comparison as required for If-None-Match.
+     * @param ifNoneMatch raw header value (may be null)
+     * @param etag current entity tag (may be null if the entity does not exist)
+     * @return true if the client copy is still current
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (ANY.equals(tag)) {
+                return true;
+            }
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extract the expected version from an If-Match header for the given user.
+     * Only a single strong tag previously issued by one of the user {@code of} methods is accepted;
+     * a profile version or sparse field suffix is ignored, the version is what conditional writes compare.
+     * @param ifMatch raw header value (may be null)
+     * @param id user ID the request targets
+     * @return expected version, or null if the request is unconditional
+     * @throws PreconditionFailedException if the tag is weak, malformed, a profile tag or for another entity
+     */
+    public static Long parseVersion(String ifMatch, UUID id) {
+        return parse(ifMatch, "\"" + id + "-");
+    }
+
+    /**
+     * Extract the expected profile version from an If-Match header for the given user's profile.
+     * Only a tag issued by {@link #ofProfile} is accepted, so a user tag can never stand in for a profile tag.
+     * @param ifMatch raw header value (may be null)
+     * @param userId ID of the user owning the profile
+     * @return expected profile version, or null if the request is unconditional
+     * @throws PreconditionFailedException if the tag is weak, malformed, a user tag or for another entity
+     */
+    public static Long parseProfileVersion(String ifMatch, UUID userId) {
+        return parse(ifMatch, "\"" + userId + "-" + PROFILE_MARKER);
+    }
+
+    private static Long parse(String ifMatch, String prefix) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            throw new PreconditionFailedException("If-Match does not refer to the current resource: " + tag);
+        }
+        String version = tag.substring(prefix.length(), tag.length() - 1);
+        int suffix = version.indexOf('.');
+        if (suffix >= 0) {
+            version = version.substring(0, suffix);
+        }
+        // Digits only: a profile tag's marker must not parse as a user version
+        if (version.isEmpty() || !version.chars().allMatch(Character::isDigit)) {
+            throw new PreconditionFailedException("If-Match does not refer to the current resource: " + tag);
+        }
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("Malformed If-Match entity tag: " + tag);
+        }
+    }
+
+    /**
+     * Answer a conditional GET: 304 when If-None-Match still matches the current tag, otherwise
+     * load the representation and return it with its tag. The current tag is only looked up
+     * when the request is conditional, and is cheaper to read than the representation.
+     * @param ifNoneMatch raw header value (may be null)
+     * @param currentTag current entity tag (null if the entity does not exist)
+     * @param loader loads the representation
+     * @param tagOf entity tag of the loaded representation
+     * @param body wraps the representation into the response body
+     * @return 304 without a body, or 200 with the representation and its tag
+     */
+    public static <T, B> ResponseEntity<B> conditionalGet(String ifNoneMatch,
+                                                          Supplier<String> currentTag,
+                                                          Supplier<T> loader,
+                                                          Function<T, String> tagOf,
+                                                          Function<T, B> body) {
+        if (ifNoneMatch != null) {
+            String etag = currentTag.get();
+            if (matches(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+        }
+        T representation = loader.get();
+        return ResponseEntity.ok()
+                .eTag(tagOf.apply(representation))
+                .body(body.apply(representation));
+    }
+
+    /**
+     * Build an empty 304 Not Modified response carrying the entity tag.
+     * @param etag current entity tag
+     * @return 304 response without a body
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+}
@@ -4,6 +4,8 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -30,6 +32,14 @@ public class JwtUtils {
     @Value("${application.security.jwt.refresh-token.expiration}")
     private long refreshExpiration;
 
+    private final Timer signTimer;
+    private final Timer parseTimer;
+
+    public JwtUtils(MeterRegistry meterRegistry) {
+        this.signTimer = meterRegistry.timer("medibridge.jwt", "operation", "sign");
+        this.parseTimer = meterRegistry.timer("medibridge.jwt", "operation", "parse");
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -57,13 +67,13 @@ public class JwtUtils {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList()));
 
-        return Jwts.builder()
+        return signTimer.record(() -> Jwts.builder()
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSignInKey())
-                .compact();
+                .compact());
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
@@ -80,11 +90,12 @@ public class JwtUtils {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
+        // Covers signature verification as well as parsing
+        return parseTimer.record(() -> Jwts.parser()
                 .verifyWith(getSignInKey())
                 .build()
                 .parseSignedClaims(token)
-                .getPayload();
+                .getPayload());
     }
 
     private SecretKey getSignInKey() {
@@ -0,0 +1,121 @@
+package com.medibridge.user_service.util;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.medibridge.user_service.exception.InvalidRequestException;
+import org.springframework.beans.BeanUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A client-selected subset of DTO fields, parsed from a {@code fields=} query parameter.
+ * Only scalar, non-ignored DTO fields and lists of scalars (JSON list columns) are selectable;
+ * the selection doubles as the list of attributes read by a tuple projection.
+ */
+public final class SparseFieldset {
+
+    /**
+     * No selection: the full DTO is returned.
+     */
+    public static final SparseFieldset ALL = new SparseFieldset(Collections.emptySet());
+
+    private static final Map<Class<?>, Set<String>> SELECTABLE_FIELDS = new ConcurrentHashMap<>();
+
+    private final Set<String> names;
+
+    private SparseFieldset(Set<String> names) {
+        this.names = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Parse a comma-separated field list against the selectable fields of a DTO type.
+     * @param fields raw query parameter value (null or blank selects all fields)
+     * @param dtoType DTO class the fields belong to
+     * @return parsed selection
+     * @throws InvalidRequestException if a field is unknown or not selectable
+     */
+    public static SparseFieldset parse(String fields, Class<?> dtoType) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> selectable = selectableFields(dtoType);
+        Set<String> names = new TreeSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!selectable.contains(name)) {
+                throw new InvalidRequestException("fields",
+                        "Unknown field '" + name + "', selectable fields are " + selectable);
+            }
+            names.add(name);
+        }
+        return names.isEmpty() ? ALL : new SparseFieldset(names);
+    }
+
+    /**
+     * Scalar and scalar list fields of a DTO type (including superclasses) that clients may select.
+     */
+    public static Set<String> selectableFields(Class<?> dtoType) {
+        return SELECTABLE_FIELDS.computeIfAbsent(dtoType, type -> {
+            Set<String> names = new TreeSet<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())
+                            && !field.isAnnotationPresent(JsonIgnore.class)
+                            && isColumnValue(field)) {
+                        names.add(field.getName());
+                    }
+                }
+            }
+            return Collections.unmodifiableSet(names);
+        });
+    }
+
+    private static boolean isColumnValue(Field field) {
+        if (BeanUtils.isSimpleValueType(field.getType())) {
+            return true;
+        }
+        // A list of scalars is one converted JSON column, not an association
+        return field.getType() == List.class
+                && field.getGenericType() instanceof ParameterizedType list
+                && list.getActualTypeArguments()[0] instanceof Class<?> element
+                && BeanUtils.isSimpleValueType(element);
+    }
+
+    /**
+     * Return a copy of this selection that also reads an internal attribute (e.g. version).
+     * The full selection is returned unchanged.
+     */
+    public SparseFieldset with(String name) {
+        if (isAll() || names.contains(name)) {
+            return this;
+        }
+        Set<String> extended = new TreeSet<>(names);
+        extended.add(name);
+        return new SparseFieldset(extended);
+    }
+
+    public boolean isAll() {
+        return names.isEmpty();
+    }
+
+    public Set<String> names() {
+        return names;
+    }
+
+    /**
+     * Canonical, order-independent key for this selection, e.g. "fullName+id+role".
+     */
+    public String key() {
+        return String.join("+", names);
+    }
+}
@@ -0,0 +1,147 @@
+package com.medibridge.user_service.validation;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Read-only view of a breached-password corpus file built by {@link BreachedPasswordCorpusBuilder}.
+ *
+ * The file is memory-mapped, never read onto the heap: the OS pages in the few blocks a lookup
+ * touches, so a corpus of hundreds of MB costs no heap and a lookup is two binary-search steps
+ * into the page cache. Layout (big-endian):
+ * <pre>
+ *   int    magic "MBPW"
+ *   int    format version
+ *   long   record count
+ *   long[65537]  bucket index: first record of each 16-bit SHA-1 prefix, plus the total
+ *   long[count]  records: first 8 bytes of each SHA-1, sorted unsigned, no duplicates
+ * </pre>
+ * Keeping 64 of the 160 digest bits makes a false positive about one in 10^10 for a billion
+ * entries, which is acceptable for rejecting a password.
+ */
+public final class BreachedPasswordCorpus implements AutoCloseable {
+
+    static final int MAGIC = 0x4D425057;
+    static final int VERSION = 1;
+    static final int BUCKETS = 1 << 16;
+    static final long HEADER_BYTES = 16;
+    static final long INDEX_BYTES = (BUCKETS + 1L) * Long.BYTES;
+
+    // A MappedByteBuffer is int-indexed, so records are mapped in 1 GiB segments
+    private static final int SEGMENT_SHIFT = 27;
+    private static final long SEGMENT_RECORDS = 1L << SEGMENT_SHIFT;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer index;
+    private final MappedByteBuffer[] segments;
+    private final long count;
+
+    private BreachedPasswordCorpus(FileChannel channel, MappedByteBuffer index, MappedByteBuffer[] segments,
+                                   long count) {
+        this.channel = channel;
+        this.index = index;
+        this.segments = segments;
+        this.count = count;
+    }
+
+    /**
+     * Map a corpus file.
+     * @throws IOException if the file cannot be read or is not a corpus file
+     */
+    public static BreachedPasswordCorpus open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES + INDEX_BYTES);
+            long count = header.getLong(8);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || count < 0
+                    || channel.size() != HEADER_BYTES + INDEX_BYTES + count * Long.BYTES) {
+                throw new IOException("Not a breached-password corpus (version " + VERSION + "): " + file);
+            }
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((count + SEGMENT_RECORDS - 1) / SEGMENT_RECORDS)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = i * SEGMENT_RECORDS;
+                long records = Math.min(SEGMENT_RECORDS, count - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES + INDEX_BYTES + first * Long.BYTES, records * Long.BYTES);
+            }
+            return new BreachedPasswordCorpus(channel, header.slice((int) HEADER_BYTES, (int) INDEX_BYTES),
+                    segments, count);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of distinct hashes in the corpus
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * @return true if the SHA-1 of the password's UTF-8 bytes is in the corpus
+     */
+    public boolean contains(String password) {
+        return containsKey(key(sha1(password)));
+    }
+
+    /**
+     * @param sha1 a 20-byte SHA-1 digest (only the first 8 bytes are compared)
+     */
+    public boolean containsSha1(byte[] sha1) {
+        return containsKey(key(sha1));
+    }
+
+    private boolean containsKey(long key) {
+        int bucket = (int) (key >>> 48);
+        long low = index.getLong(bucket * Long.BYTES);
+        long high = index.getLong((bucket + 1) * Long.BYTES) - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int cmp = Long.compareUnsigned(record(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long record(long i) {
+        return segments[(int) (i >>> SEGMENT_SHIFT)].getLong((int) (i & (SEGMENT_RECORDS - 1)) * Long.BYTES);
+    }
+
+    static long key(byte[] sha1) {
+        long key = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            key = (key << 8) | (sha1[i] & 0xFF);
+        }
+        return key;
+    }
+
+    static byte[] sha1(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    /**
+     * Closes the file. Mappings stay valid until they are garbage collected, so in-flight lookups are safe.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
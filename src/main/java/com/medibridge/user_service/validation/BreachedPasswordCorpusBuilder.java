@@ -0,0 +1,119 @@
+package com.medibridge.user_service.validation;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Builds a {@link BreachedPasswordCorpus} file from a text dump. Offline tool, not used by the service.
+ *
+ * Input lines are either SHA-1 hashes in the Have I Been Pwned format ({@code <40 hex>[:count]})
+ * or, with --plain, one password per line. Input need not be sorted. Hashes are held as 8 bytes
+ * each while sorting, so give the JVM about 8 bytes of heap per input line.
+ *
+ * <pre>
+ * java -cp target/user_service-0.0.1-SNAPSHOT.jar \
+ *     com.medibridge.user_service.validation.BreachedPasswordCorpusBuilder \
+ *     pwned-passwords-sha1.txt breached-passwords.bin [--min-count=N] [--plain]
+ * </pre>
+ * --min-count drops hashes seen fewer than N times, a simple way to trade coverage for file size.
+ */
+public final class BreachedPasswordCorpusBuilder {
+
+    private BreachedPasswordCorpusBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BreachedPasswordCorpusBuilder <input.txt> <output.bin> [--min-count=N] [--plain]");
+            System.exit(1);
+        }
+        long minCount = 0;
+        boolean plain = false;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith("--min-count=")) {
+                minCount = Long.parseLong(args[i].substring("--min-count=".length()));
+            } else if (args[i].equals("--plain")) {
+                plain = true;
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        long start = System.nanoTime();
+        long written = build(Path.of(args[0]), Path.of(args[1]), minCount, plain);
+        System.out.printf("Wrote %,d hashes to %s in %ds%n", written, args[1], (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    /**
+     * @return number of distinct hashes written
+     */
+    public static long build(Path input, Path output, long minCount, boolean plain) throws IOException {
+        long[] keys = new long[1 << 20];
+        int size = 0;
+        HexFormat hex = HexFormat.of();
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long key;
+                if (plain) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    key = BreachedPasswordCorpus.key(BreachedPasswordCorpus.sha1(line));
+                } else {
+                    line = line.strip();
+                    if (line.length() < 40) {
+                        continue;
+                    }
+                    int colon = line.indexOf(':');
+                    if (minCount > 0 && colon > 0 && Long.parseLong(line.substring(colon + 1).strip()) < minCount) {
+                        continue;
+                    }
+                    key = hex.fromHexDigitsToLong(line, 0, 16);
+                }
+                if (size == keys.length) {
+                    keys = Arrays.copyOf(keys, Math.toIntExact(Math.min(Integer.MAX_VALUE - 8, keys.length * 2L)));
+                }
+                // Flip the sign bit so a signed sort gives unsigned order
+                keys[size++] = key ^ Long.MIN_VALUE;
+            }
+        }
+        Arrays.parallelSort(keys, 0, size);
+
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || keys[i] != keys[distinct - 1]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+
+        long[] bucketStart = new long[BreachedPasswordCorpus.BUCKETS + 1];
+        for (int i = 0; i < distinct; i++) {
+            bucketStart[(int) ((keys[i] ^ Long.MIN_VALUE) >>> 48) + 1]++;
+        }
+        for (int bucket = 0; bucket < BreachedPasswordCorpus.BUCKETS; bucket++) {
+            bucketStart[bucket + 1] += bucketStart[bucket];
+        }
+
+        try (OutputStream file = Files.newOutputStream(output);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 20))) {
+            out.writeInt(BreachedPasswordCorpus.MAGIC);
+            out.writeInt(BreachedPasswordCorpus.VERSION);
+            out.writeLong(distinct);
+            for (long offset : bucketStart) {
+                out.writeLong(offset);
+            }
+            for (int i = 0; i < distinct; i++) {
+                out.writeLong(keys[i] ^ Long.MIN_VALUE);
+            }
+        }
+        return distinct;
+    }
+}
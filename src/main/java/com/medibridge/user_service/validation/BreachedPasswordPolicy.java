@@ -0,0 +1,60 @@
+package com.medibridge.user_service.validation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Rejects passwords found in the offline breached-password corpus at
+ * application.breached-passwords.file. Without a file configured every password passes;
+ * a configured file that cannot be opened fails startup rather than silently disabling the check.
+ */
+@Component
+@Slf4j
+public class BreachedPasswordPolicy implements AutoCloseable {
+
+    private final BreachedPasswordCorpus corpus;
+    private final Counter rejected;
+
+    public BreachedPasswordPolicy(@Value("${application.breached-passwords.file:}") String file,
+                                  MeterRegistry meterRegistry) throws IOException {
+        if (file.isBlank()) {
+            this.corpus = null;
+            log.info("Breached-password check disabled (application.breached-passwords.file not set)");
+        } else {
+            this.corpus = BreachedPasswordCorpus.open(Path.of(file));
+            log.info("Breached-password check enabled - {} hashes mapped from {}", corpus.size(), file);
+        }
+        this.rejected = meterRegistry.counter("medibridge.password.breached");
+    }
+
+    public boolean isEnabled() {
+        return corpus != null;
+    }
+
+    /**
+     * @return true if the password appears in the corpus
+     */
+    public boolean isBreached(String password) {
+        if (corpus == null || password == null) {
+            return false;
+        }
+        boolean breached = corpus.contains(password);
+        if (breached) {
+            rejected.increment();
+        }
+        return breached;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (corpus != null) {
+            corpus.close();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.medibridge.user_service.validation;
+
+/**
+ * Format rules for usernames, emails and passwords, shared by the Bean Validation constraints
+ * and {@link com.medibridge.user_service.service.AuthenticationConstraintService}.
+ * Each check is a single pass over the characters without regexes or allocation, since it runs
+ * for every registration and every row of a bulk import.
+ */
+public final class CredentialRules {
+
+    public static final int USERNAME_MIN_LENGTH = 3;
+    public static final int USERNAME_MAX_LENGTH = 50;
+    public static final int PASSWORD_MIN_LENGTH = 8;
+    public static final int PASSWORD_MAX_LENGTH = 128;
+
+    /** Password rule violations reported by {@link #checkPassword(CharSequence)}, as bit flags. */
+    public static final int PASSWORD_TOO_SHORT = 1;
+    public static final int PASSWORD_TOO_LONG = 1 << 1;
+    public static final int PASSWORD_MISSING_UPPERCASE = 1 << 2;
+    public static final int PASSWORD_MISSING_LOWERCASE = 1 << 3;
+    public static final int PASSWORD_MISSING_DIGIT = 1 << 4;
+    public static final int PASSWORD_MISSING_SPECIAL_CHAR = 1 << 5;
+
+    private static final String SPECIAL_CHARACTERS = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+    private static final String LETTERS_AND_DIGITS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final String EMAIL_LOCAL_CHARACTERS = LETTERS_AND_DIGITS + "+_.-";
+    private static final String USERNAME_CHARACTERS = LETTERS_AND_DIGITS + "._-";
+
+    // ASCII membership bitmaps: bit c of LOW for c < 64, bit c - 64 of HIGH for 64 <= c < 128
+    private static final long SPECIAL_LOW = asciiMask(SPECIAL_CHARACTERS, 0);
+    private static final long SPECIAL_HIGH = asciiMask(SPECIAL_CHARACTERS, 64);
+    private static final long EMAIL_LOCAL_LOW = asciiMask(EMAIL_LOCAL_CHARACTERS, 0);
+    private static final long EMAIL_LOCAL_HIGH = asciiMask(EMAIL_LOCAL_CHARACTERS, 64);
+    private static final long USERNAME_LOW = asciiMask(USERNAME_CHARACTERS, 0);
+    private static final long USERNAME_HIGH = asciiMask(USERNAME_CHARACTERS, 64);
+
+    private CredentialRules() {
+    }
+
+    /**
+     * Check password length and character classes in one pass.
+     * Character classes are ASCII: A-Z, a-z, 0-9 and {@code !@#$%^&*()_+-=[]{};':"\|,.<>/?}.
+     * @param password password to check, not null
+     * @return 0 if the password is acceptable, otherwise the PASSWORD_* flags of every failed rule
+     */
+    public static int checkPassword(CharSequence password) {
+        int length = password.length();
+        int missing = PASSWORD_MISSING_UPPERCASE | PASSWORD_MISSING_LOWERCASE
+                | PASSWORD_MISSING_DIGIT | PASSWORD_MISSING_SPECIAL_CHAR;
+        for (int i = 0; i < length && missing != 0; i++) {
+            char c = password.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                missing &= ~PASSWORD_MISSING_UPPERCASE;
+            } else if (c >= 'a' && c <= 'z') {
+                missing &= ~PASSWORD_MISSING_LOWERCASE;
+            } else if (c >= '0' && c <= '9') {
+                missing &= ~PASSWORD_MISSING_DIGIT;
+            } else if (inAscii(c, SPECIAL_LOW, SPECIAL_HIGH)) {
+                missing &= ~PASSWORD_MISSING_SPECIAL_CHAR;
+            }
+        }
+        if (length < PASSWORD_MIN_LENGTH) {
+            missing |= PASSWORD_TOO_SHORT;
+        } else if (length > PASSWORD_MAX_LENGTH) {
+            missing |= PASSWORD_TOO_LONG;
+        }
+        return missing;
+    }
+
+    /**
+     * Check an email address: one or more of A-Z a-z 0-9 + _ . - before the first '@',
+     * then at least one character with no line breaks. Equivalent to {@code ^[A-Za-z0-9+_.-]+@(.+)$}.
+     * @param email email to check, not null
+     * @return true if the format is acceptable
+     */
+    public static boolean isValidEmail(CharSequence email) {
+        int length = email.length();
+        int at = 0;
+        while (at < length && inAscii(email.charAt(at), EMAIL_LOCAL_LOW, EMAIL_LOCAL_HIGH)) {
+            at++;
+        }
+        if (at == 0 || at >= length - 1 || email.charAt(at) != '@') {
+            return false;
+        }
+        for (int i = at + 1; i < length; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check that a username only uses A-Z a-z 0-9 . _ - (length is checked separately).
+     * @param username username to check, not null
+     * @return true if non-empty and every character is allowed
+     */
+    public static boolean hasValidUsernameCharacters(CharSequence username) {
+        int length = username.length();
+        for (int i = 0; i < length; i++) {
+            if (!inAscii(username.charAt(i), USERNAME_LOW, USERNAME_HIGH)) {
+                return false;
+            }
+        }
+        return length > 0;
+    }
+
+    private static boolean inAscii(char c, long low, long high) {
+        if (c < 64) {
+            return (low & (1L << c)) != 0;
+        }
+        return c < 128 && (high & (1L << (c - 64))) != 0;
+    }
+
+    /** The characters '.' does not match in a java.util.regex pattern. */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static long asciiMask(String characters, int offset) {
+        long mask = 0;
+        for (int i = 0; i < characters.length(); i++) {
+            int bit = characters.charAt(i) - offset;
+            if (bit >= 0 && bit < 64) {
+                mask |= 1L << bit;
+            }
+        }
+        return mask;
+    }
+}
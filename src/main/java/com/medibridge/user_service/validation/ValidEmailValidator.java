@@ -2,16 +2,12 @@ package com.medibridge.user_service.validation;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.util.regex.Pattern;
 
 /**
  * Validator for email format.
  */
 public class ValidEmailValidator implements ConstraintValidator<ValidEmail, String> {
 
-    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@(.+)$";
-    private static final Pattern pattern = Pattern.compile(EMAIL_REGEX);
-
     @Override
     public void initialize(ValidEmail annotation) {
         // No initialization needed
@@ -22,7 +18,7 @@ public class ValidEmailValidator implements ConstraintValidator<ValidEmail, Stri
         if (value == null || value.isEmpty()) {
             return true; // Let @NotBlank handle null/empty validation
         }
-        return pattern.matcher(value).matches();
+        return CredentialRules.isValidEmail(value);
     }
 }
 
@@ -2,12 +2,28 @@ package com.medibridge.user_service.validation;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * Validator for password strength.
+ * When created by Spring's validator factory it also rejects passwords found in the breached-password corpus.
  */
 public class ValidPasswordValidator implements ConstraintValidator<ValidPassword, String> {
 
+    private final BreachedPasswordPolicy breachedPasswordPolicy;
+
+    /**
+     * For plain Bean Validation bootstrapping, without the breached-password check.
+     */
+    public ValidPasswordValidator() {
+        this(null);
+    }
+
+    @Autowired
+    public ValidPasswordValidator(BreachedPasswordPolicy breachedPasswordPolicy) {
+        this.breachedPasswordPolicy = breachedPasswordPolicy;
+    }
+
     @Override
     public void initialize(ValidPassword annotation) {
         // No initialization needed
@@ -19,13 +35,24 @@ public class ValidPasswordValidator implements ConstraintValidator<ValidPassword
             return true; // Let @NotBlank handle null/empty validation
         }
 
-        boolean hasUpperCase = value.matches(".*[A-Z].*");
-        boolean hasLowerCase = value.matches(".*[a-z].*");
-        boolean hasDigit = value.matches(".*[0-9].*");
-        boolean hasSpecialChar = value.matches(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?].*");
-        boolean isLengthValid = value.length() >= 8;
+        // Only the minimum length applies here; the maximum is enforced by AuthenticationConstraintService
+        int violations = CredentialRules.checkPassword(value) & ~CredentialRules.PASSWORD_TOO_LONG;
+        boolean hasUpperCase = (violations & CredentialRules.PASSWORD_MISSING_UPPERCASE) == 0;
+        boolean hasLowerCase = (violations & CredentialRules.PASSWORD_MISSING_LOWERCASE) == 0;
+        boolean hasDigit = (violations & CredentialRules.PASSWORD_MISSING_DIGIT) == 0;
+        boolean hasSpecialChar = (violations & CredentialRules.PASSWORD_MISSING_SPECIAL_CHAR) == 0;
+        boolean isLengthValid = (violations & CredentialRules.PASSWORD_TOO_SHORT) == 0;
+
+        boolean isValid = violations == 0;
 
-        boolean isValid = hasUpperCase && hasLowerCase && hasDigit && hasSpecialChar && isLengthValid;
+        // Only hash passwords that already pass the format rules
+        if (isValid && breachedPasswordPolicy != null && breachedPasswordPolicy.isBreached(value)) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(
+                            "Password has appeared in a data breach, please choose a different one")
+                    .addConstraintViolation();
+            return false;
+        }
 
         if (!isValid) {
             context.disableDefaultConstraintViolation();
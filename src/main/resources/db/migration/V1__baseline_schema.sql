@@ -0,0 +1,137 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update (MySQL 8 dialect).
+-- Databases created that way are baselined at version 1 (spring.flyway.baseline-on-migrate),
+-- so this script only runs on empty schemas. Constraint names are the ones Hibernate generated,
+-- which keeps both kinds of database identical for later migrations.
+
+CREATE TABLE users (
+    id                    BINARY(16)   NOT NULL,
+    created_at            DATETIME(6)  NOT NULL,
+    created_by            BINARY(16),
+    deleted_at            DATETIME(6),
+    is_deleted            BIT          NOT NULL,
+    updated_at            DATETIME(6)  NOT NULL,
+    updated_by            BINARY(16),
+    version               BIGINT,
+    email                 VARCHAR(255) NOT NULL,
+    failed_login_attempts INTEGER      NOT NULL,
+    full_name             VARCHAR(255),
+    is_active             BIT          NOT NULL,
+    is_locked             BIT          NOT NULL,
+    last_login_at         DATETIME(6),
+    locked_until          DATETIME(6),
+    password              VARCHAR(255) NOT NULL,
+    phone_number          VARCHAR(20),
+    role                  ENUM ('ADMIN','DOCTOR','PATIENT','USER') NOT NULL,
+    username              VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT idx_username UNIQUE (username),
+    CONSTRAINT idx_email UNIQUE (email),
+    INDEX idx_is_active (is_active),
+    INDEX idx_is_deleted (is_deleted)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_profiles (
+    profile_type                         VARCHAR(31)  NOT NULL,
+    id                                   BINARY(16)   NOT NULL,
+    additional_info                      LONGTEXT,
+    created_at                           BIGINT       NOT NULL,
+    status                               TINYINT      NOT NULL,
+    updated_at                           BIGINT,
+    version                              BIGINT DEFAULT 0 NOT NULL,
+    -- AdminProfile
+    access_level                         INTEGER,
+    account_locked                       BIT,
+    approval_chain                       VARCHAR(255),
+    audit_access_enabled                 BIT,
+    cost_center                          VARCHAR(255),
+    department                           VARCHAR(255),
+    failed_login_attempts                INTEGER,
+    ip_whitelist                         VARCHAR(255),
+    last_activity_time                   BIGINT,
+    location                             VARCHAR(255),
+    mfa_enabled                          BIT,
+    organization_code                    VARCHAR(255),
+    permissions                          VARCHAR(255),
+    reporting_manager                    VARCHAR(255),
+    -- DoctorProfile
+    affiliated_hospitals                 VARCHAR(255),
+    availability_schedule                VARCHAR(255),
+    availability_schedule_active         BIT,
+    average_rating                       DOUBLE,
+    board_certifications                 VARCHAR(255),
+    clinic_address                       VARCHAR(255),
+    clinic_phone_number                  VARCHAR(255),
+    consultation_duration_minutes        INTEGER,
+    consultation_fee                     DOUBLE,
+    consultation_hours                   VARCHAR(255),
+    first_name                           VARCHAR(255),
+    is_accepting_new_patients            BIT,
+    languages                            VARCHAR(255),
+    last_name                            VARCHAR(255),
+    license_expiry_date                  BIGINT,
+    license_issuing_body                 VARCHAR(255),
+    license_number                       VARCHAR(255),
+    max_patients_per_day                 INTEGER,
+    medical_registration                 VARCHAR(255),
+    npi_number                           VARCHAR(255),
+    office_location                      VARCHAR(255),
+    qualifications                       VARCHAR(255),
+    specialization                       VARCHAR(255),
+    total_consultations                  INTEGER,
+    verification_date                    BIGINT,
+    verification_status                  BIT,
+    verified_by                          VARCHAR(255),
+    years_of_experience                  BIGINT,
+    -- PatientProfile
+    account_created_date                 BIGINT,
+    address                              VARCHAR(255),
+    allergies                            VARCHAR(255),
+    blood_group                          VARCHAR(255),
+    city                                 VARCHAR(255),
+    communication_preference             VARCHAR(255),
+    country                              VARCHAR(255),
+    current_medications                  VARCHAR(255),
+    date_of_birth                        VARCHAR(255),
+    emergency_contact_name               VARCHAR(255),
+    emergency_contact_phone              VARCHAR(255),
+    emergency_contact_relation           VARCHAR(255),
+    gdpr_consent                         BIT,
+    gender                               VARCHAR(255),
+    insurance_group_number               VARCHAR(255),
+    insurance_policy_expiry_date         BIGINT,
+    insurance_policy_number              VARCHAR(255),
+    insurance_provider                   VARCHAR(255),
+    last_consultation_date               BIGINT,
+    last_login_date                      BIGINT,
+    medical_conditions                   VARCHAR(255),
+    medical_history_access_granted       BIT,
+    notifications_enabled                BIT,
+    phone_number                         VARCHAR(255),
+    preferred_doctor_ids                 VARCHAR(255),
+    preferred_language                   VARCHAR(255),
+    privacy_policy_accepted              BIT,
+    secondary_emergency_contact_name     VARCHAR(255),
+    secondary_emergency_contact_phone    VARCHAR(255),
+    secondary_emergency_contact_relation VARCHAR(255),
+    state                                VARCHAR(255),
+    terms_and_conditions_accepted        BIT,
+    two_factor_authentication_enabled    BIT,
+    zip_code                             VARCHAR(255),
+    user_id                              BINARY(16)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKe5h89rk3ijvdmaiig4srogdc6 UNIQUE (user_id),
+    CONSTRAINT FKjcad5nfve11khsnpwj1mv8frj FOREIGN KEY (user_id) REFERENCES users (id),
+    CHECK (profile_type IN ('ADMIN', 'DOCTOR', 'USER')),
+    CHECK (status BETWEEN 0 AND 3)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_token (
+    id          BINARY(16)   NOT NULL,
+    expiry_date DATETIME(6)  NOT NULL,
+    token       VARCHAR(750) NOT NULL,
+    user_id     BINARY(16),
+    PRIMARY KEY (id),
+    CONSTRAINT UKr4k4edos30bx9neoq81mdvwph UNIQUE (token),
+    CONSTRAINT UKf95ixxe7pa48ryn1awmh2evt7 UNIQUE (user_id),
+    CONSTRAINT FKjtx87i0jvq2svedphegvdwcuy FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,29 @@
+-- Composite indexes for the repository query shapes. One ALTER per table so each table is
+-- processed once; INPLACE/LOCK=NONE keeps reads and writes going while the indexes build.
+-- RepositoryIndexUsageTests checks that every repository query has an index to use.
+
+-- users: findAllPatients/findAllDoctors and counts, findByRole(AndIsActiveTrue), countActiveUsers,
+-- findRecentlySignedInIds (warm-up, ORDER BY last_login_at). These make the single-column
+-- is_active / is_deleted indexes redundant.
+ALTER TABLE users
+    ADD INDEX idx_users_role_deleted (role, is_deleted),
+    ADD INDEX idx_users_role_active (role, is_active),
+    ADD INDEX idx_users_active_deleted (is_active, is_deleted),
+    ADD INDEX idx_users_deleted_last_login (is_deleted, last_login_at),
+    DROP INDEX idx_is_active,
+    DROP INDEX idx_is_deleted,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- user_profiles is single-table inheritance, so every subclass query filters on profile_type
+-- first. Doctor searches end in average_rating so "verified by department, best rated first"
+-- reads the index in order instead of sorting.
+ALTER TABLE user_profiles
+    ADD INDEX idx_profiles_specialization (profile_type, specialization, verification_status, average_rating),
+    ADD INDEX idx_profiles_department (profile_type, department, verification_status, average_rating),
+    ADD INDEX idx_profiles_verification (profile_type, verification_status, average_rating),
+    ADD INDEX idx_profiles_accepting (profile_type, is_accepting_new_patients),
+    ADD INDEX idx_profiles_blood_group (profile_type, blood_group),
+    ADD INDEX idx_profiles_license_number (license_number),
+    ADD INDEX idx_profiles_npi_number (npi_number),
+    ADD INDEX idx_profiles_insurance_policy (insurance_policy_number),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,51 @@
+-- Move the wide free-text profile columns into user_profile_details. Only the full single-profile
+-- read needs them; batch lookups, listings and the doctor/patient searches read user_profiles
+-- alone, so a narrower row packs more profiles into each page and buffer pool frame.
+-- The columns become TEXT here: they no longer cost the hot row anything.
+
+CREATE TABLE user_profile_details (
+    id                    BINARY(16) NOT NULL,
+    additional_info       LONGTEXT,
+    -- PatientProfile
+    medical_conditions    TEXT,
+    allergies             TEXT,
+    current_medications   TEXT,
+    -- DoctorProfile
+    qualifications        TEXT,
+    consultation_hours    TEXT,
+    availability_schedule TEXT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- Existing rows reuse the profile id; profiles without any of these values get no row
+INSERT INTO user_profile_details (id, additional_info, medical_conditions, allergies, current_medications,
+                                  qualifications, consultation_hours, availability_schedule)
+SELECT id, additional_info, medical_conditions, allergies, current_medications,
+       qualifications, consultation_hours, availability_schedule
+FROM user_profiles
+WHERE additional_info IS NOT NULL
+   OR medical_conditions IS NOT NULL
+   OR allergies IS NOT NULL
+   OR current_medications IS NOT NULL
+   OR qualifications IS NOT NULL
+   OR consultation_hours IS NOT NULL
+   OR availability_schedule IS NOT NULL;
+
+ALTER TABLE user_profiles
+    ADD COLUMN details_id BINARY(16),
+    ADD CONSTRAINT uk_profiles_details UNIQUE (details_id),
+    ADD CONSTRAINT fk_profiles_details FOREIGN KEY (details_id) REFERENCES user_profile_details (id);
+
+UPDATE user_profiles p
+    JOIN user_profile_details d ON d.id = p.id
+SET p.details_id = d.id;
+
+-- Dropping the columns rebuilds user_profiles, which also compacts it
+ALTER TABLE user_profiles
+    DROP COLUMN additional_info,
+    DROP COLUMN medical_conditions,
+    DROP COLUMN allergies,
+    DROP COLUMN current_medications,
+    DROP COLUMN qualifications,
+    DROP COLUMN consultation_hours,
+    DROP COLUMN availability_schedule;
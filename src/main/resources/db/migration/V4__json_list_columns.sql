@@ -0,0 +1,56 @@
+-- Comma-separated list columns become JSON arrays, mapped by StringListConverter/UuidListConverter.
+-- Values that already hold a JSON array are kept; anything else is split on commas, so
+-- 'Sinhala, English' becomes ["Sinhala","English"]. Blank strings become NULL.
+-- The multi-valued indexes over these arrays are MySQL-only and added by MultiValuedIndexMigration (V5).
+
+UPDATE user_profiles
+SET
+    languages = CASE
+        WHEN TRIM(languages) = '' THEN NULL
+        WHEN languages LIKE '[%' AND JSON_VALID(languages) THEN languages
+        ELSE CONCAT('["', REPLACE(REPLACE(REPLACE(REPLACE(TRIM(languages), '\\', '\\\\'), '"', '\\"'), ', ', ','), ',', '","'), '"]')
+    END,
+    board_certifications = CASE
+        WHEN TRIM(board_certifications) = '' THEN NULL
+        WHEN board_certifications LIKE '[%' AND JSON_VALID(board_certifications) THEN board_certifications
+        ELSE CONCAT('["', REPLACE(REPLACE(REPLACE(REPLACE(TRIM(board_certifications), '\\', '\\\\'), '"', '\\"'), ', ', ','), ',', '","'), '"]')
+    END,
+    affiliated_hospitals = CASE
+        WHEN TRIM(affiliated_hospitals) = '' THEN NULL
+        WHEN affiliated_hospitals LIKE '[%' AND JSON_VALID(affiliated_hospitals) THEN affiliated_hospitals
+        ELSE CONCAT('["', REPLACE(REPLACE(REPLACE(REPLACE(TRIM(affiliated_hospitals), '\\', '\\\\'), '"', '\\"'), ', ', ','), ',', '","'), '"]')
+    END,
+    permissions = CASE
+        WHEN TRIM(permissions) = '' THEN NULL
+        WHEN permissions LIKE '[%' AND JSON_VALID(permissions) THEN permissions
+        ELSE CONCAT('["', REPLACE(REPLACE(REPLACE(REPLACE(TRIM(permissions), '\\', '\\\\'), '"', '\\"'), ', ', ','), ',', '","'), '"]')
+    END,
+    preferred_doctor_ids = CASE
+        WHEN TRIM(preferred_doctor_ids) = '' THEN NULL
+        WHEN preferred_doctor_ids LIKE '[%' AND JSON_VALID(preferred_doctor_ids) THEN preferred_doctor_ids
+        ELSE CONCAT('["', REPLACE(REPLACE(REPLACE(REPLACE(TRIM(preferred_doctor_ids), '\\', '\\\\'), '"', '\\"'), ', ', ','), ',', '","'), '"]')
+    END
+WHERE languages IS NOT NULL
+   OR board_certifications IS NOT NULL
+   OR affiliated_hospitals IS NOT NULL
+   OR permissions IS NOT NULL
+   OR preferred_doctor_ids IS NOT NULL;
+
+UPDATE user_profile_details
+SET
+    qualifications = CASE
+        WHEN TRIM(qualifications) = '' THEN NULL
+        WHEN qualifications LIKE '[%' AND JSON_VALID(qualifications) THEN qualifications
+        ELSE CONCAT('["', REPLACE(REPLACE(REPLACE(REPLACE(TRIM(qualifications), '\\', '\\\\'), '"', '\\"'), ', ', ','), ',', '","'), '"]')
+    END
+WHERE qualifications IS NOT NULL;
+
+ALTER TABLE user_profiles
+    MODIFY languages JSON,
+    MODIFY board_certifications JSON,
+    MODIFY affiliated_hospitals JSON,
+    MODIFY permissions JSON,
+    MODIFY preferred_doctor_ids JSON;
+
+ALTER TABLE user_profile_details
+    MODIFY qualifications JSON;
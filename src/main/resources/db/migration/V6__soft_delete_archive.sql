@@ -0,0 +1,43 @@
+-- Soft delete filtering and archival of deleted users (UserArchivalService).
+-- Entity queries skip soft-deleted users and profiles through @SQLRestriction; profiles get their
+-- own copy of the flag so profile queries can filter without joining users.
+
+ALTER TABLE user_profiles
+    ADD COLUMN is_deleted BIT NOT NULL DEFAULT 0;
+
+UPDATE user_profiles p
+    JOIN users u ON u.id = p.user_id
+SET p.is_deleted = 1
+WHERE u.is_deleted = 1;
+
+-- Archival reads deleted users oldest first, in keyset order (deleted_at, id)
+ALTER TABLE users
+    ADD INDEX idx_users_deleted_at (is_deleted, deleted_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- Archive tables take the live column list (CREATE ... SELECT, so without the live indexes and
+-- unique constraints) plus archived_at as the last column. The job copies rows with
+-- SELECT *, so a column added to a live table has to be added to its archive table too.
+-- CREATE ... SELECT needs MySQL 8.0.21 on servers with GTID consistency enforced.
+
+CREATE TABLE users_archive AS SELECT * FROM users WHERE FALSE;
+ALTER TABLE users_archive
+    ADD COLUMN archived_at DATETIME(6) NOT NULL,
+    ADD PRIMARY KEY (id);
+
+CREATE TABLE user_profiles_archive AS SELECT * FROM user_profiles WHERE FALSE;
+ALTER TABLE user_profiles_archive
+    ADD COLUMN archived_at DATETIME(6) NOT NULL,
+    ADD PRIMARY KEY (id),
+    ADD INDEX idx_profiles_archive_user (user_id);
+
+CREATE TABLE user_profile_details_archive AS SELECT * FROM user_profile_details WHERE FALSE;
+ALTER TABLE user_profile_details_archive
+    ADD COLUMN archived_at DATETIME(6) NOT NULL,
+    ADD PRIMARY KEY (id);
+
+CREATE TABLE refresh_token_archive AS SELECT * FROM refresh_token WHERE FALSE;
+ALTER TABLE refresh_token_archive
+    ADD COLUMN archived_at DATETIME(6) NOT NULL,
+    ADD PRIMARY KEY (id),
+    ADD INDEX idx_refresh_token_archive_user (user_id);
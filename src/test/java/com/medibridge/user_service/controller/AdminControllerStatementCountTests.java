@@ -0,0 +1,85 @@
+package com.medibridge.user_service.controller;
+
+import com.medibridge.user_service.entity.Role;
+import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.repository.DoctorProfileRepository;
+import com.medibridge.user_service.repository.UserRepository;
+import com.medibridge.user_service.support.EmbeddedMariaDbTests;
+import com.medibridge.user_service.support.UserFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import static com.medibridge.user_service.support.SqlStatementAssertions.assertStatementCount;
+import static com.medibridge.user_service.support.UserFixtures.doctorProfile;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the statements GET /api/v1/admin/doctors runs, so a change that loads profiles
+ * one doctor at a time fails here instead of in production.
+ */
+@SpringBootTest(properties = "application.concurrency-limit.enabled=false")
+class AdminControllerStatementCountTests extends EmbeddedMariaDbTests {
+
+    private static final int DOCTORS = 5;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DoctorProfileRepository doctorProfileRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        if (userRepository.countDoctors() == 0) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < DOCTORS; i++) {
+                    doctor(i);
+                }
+            });
+        }
+    }
+
+    @Test
+    void listingDoctorsRunsOneStatementWhateverTheirNumber() throws Exception {
+        assertStatementCount(1, () -> mockMvc.perform(get("/api/v1/admin/doctors")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(DOCTORS)));
+    }
+
+    @Test
+    void sparseDoctorListRunsOneStatement() throws Exception {
+        assertStatementCount(1, () -> mockMvc.perform(get("/api/v1/admin/doctors")
+                        .param("fields", "id,fullName")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(DOCTORS)));
+    }
+
+    private void doctor(int i) {
+        User user = userRepository.save(UserFixtures.user("doctor-" + i, Role.DOCTOR).fullName("Doctor " + i).build());
+        doctorProfileRepository.save(doctorProfile(user)
+                .licenseNumber("LIC-" + i)
+                .specialization("Cardiology")
+                .build());
+    }
+}
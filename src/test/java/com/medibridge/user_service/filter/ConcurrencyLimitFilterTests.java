@@ -0,0 +1,78 @@
+package com.medibridge.user_service.filter;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Partitioning of the concurrency limit: a saturated auth partition sheds sign-ins with 503
+ * while other API calls still get through.
+ */
+class ConcurrencyLimitFilterTests {
+
+    private static final String SIGNIN = "/api/v1/users/auth/signin";
+    private static final String PROFILE = "/api/v1/users/patients/0f1c2b3a-0000-0000-0000-000000000001";
+
+    // Auth limit pinned to a single permit, api limit left roomy
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            JsonMapper.builder().build(), true, 60_000, 1, 1, 1, 4, 4, 4);
+
+    @Test
+    void saturatedAuthPartitionShedsOnlyAuthRequests() throws Exception {
+        CountDownLatch admitted = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> inFlight = CompletableFuture.supplyAsync(() ->
+                send(SIGNIN, (request, response) -> {
+                    admitted.countDown();
+                    await(finish);
+                }));
+        assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(filter.getAuthLimit().getInFlight()).isEqualTo(1);
+
+        MockHttpServletResponse shed = send(SIGNIN, (request, response) -> {
+            throw new AssertionError("request past a saturated limit reached the chain");
+        });
+        assertThat(shed.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(shed.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(shed.getContentAsString()).contains("SERVICE_OVERLOADED");
+        assertThat(filter.getAuthLimit().getRejectedCount()).isEqualTo(1);
+
+        MockHttpServletResponse profile = send(PROFILE, (request, response) -> { });
+        assertThat(profile.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(filter.getApiLimit().getRejectedCount()).isZero();
+
+        finish.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(filter.getAuthLimit().getInFlight()).isZero();
+        assertThat(send(SIGNIN, (request, response) -> { }).getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    private MockHttpServletResponse send(String uri, FilterChain chain) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.medibridge.user_service.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Limit updates under light traffic: an unused limit must not grow, but must still shrink when latency rises.
+ */
+class GradientConcurrencyLimitTests {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(20);
+
+    // One request at a time keeps in-flight far below the limit
+    private final GradientConcurrencyLimit limit = new GradientConcurrencyLimit("test", 20, 1, 100, 1);
+
+    @Test
+    void idleLimitDoesNotGrowAtBaselineLatency() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            window(FAST);
+        }
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void idleLimitShrinksWhenLatencyRises() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            window(FAST);
+        }
+        for (int i = 0; i < 5; i++) {
+            window(SLOW);
+        }
+        assertThat(limit.getLimit()).isLessThan(20);
+    }
+
+    // Waits out the 1 ms window, so the first release closes the previous window, then adds a window's samples
+    private void window(long rttNanos) throws InterruptedException {
+        Thread.sleep(2);
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+            limit.release(rttNanos);
+        }
+    }
+}
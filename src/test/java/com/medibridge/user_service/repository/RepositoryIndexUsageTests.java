@@ -0,0 +1,343 @@
+package com.medibridge.user_service.repository;
+
+import com.medibridge.user_service.entity.PatientProfile;
+import com.medibridge.user_service.entity.RefreshToken;
+import com.medibridge.user_service.entity.Role;
+import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.observability.sql.SqlStatementContext;
+import com.medibridge.user_service.support.EmbeddedMariaDbTests;
+import com.medibridge.user_service.support.UserFixtures;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.medibridge.user_service.support.UserFixtures.adminProfile;
+import static com.medibridge.user_service.support.UserFixtures.doctorProfile;
+import static com.medibridge.user_service.support.UserFixtures.patientProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every declared repository query against the Flyway schema on a real MariaDB server and
+ * checks with EXPLAIN that the optimizer does not pick a full table scan for any of them.
+ *
+ * The tables are seeded with a production-like mix (mostly patients, few doctors, a couple of
+ * admins) and analyzed first, since on near-empty tables every plan looks the same. Queries in
+ * {@link #ALLOWED_SCANS} may scan. A new repository method fails the test until it is exercised here.
+ */
+@SpringBootTest
+class RepositoryIndexUsageTests extends EmbeddedMariaDbTests {
+
+    /**
+     * Queries allowed to scan, with the reason an index would not pay for itself
+     */
+    private static final Map<String, String> ALLOWED_SCANS = Map.of(
+            "UserRepository.findAllPatients",
+            "patients are most of the users table; reading it whole is cheaper than via an index",
+            "UserRepository.findByIsActiveTrue",
+            "almost every user is active; reading the table whole is cheaper than via an index",
+            "PatientProfileRepository.findByMedicalHistoryAccessGrantedTrue",
+            "boolean flag on most patient rows; an index would be read almost end to end",
+            "PatientProfileRepository.findByTwoFactorAuthenticationEnabledTrue",
+            "boolean flag on most patient rows; an index would be read almost end to end",
+            "PatientProfileRepository.findPatientWithGdprConsent",
+            "boolean flag on most patient rows; an index would be read almost end to end",
+            "PatientProfileRepository.findPatientsByMedicalCondition",
+            "LIKE with a leading wildcard cannot use a B-tree index",
+            "PatientProfileRepository.findByPreferredDoctorId",
+            "served by a multi-valued index on MySQL (MultiValuedIndexMigration), which MariaDB lacks");
+
+    private static final List<String> BLOOD_GROUPS = List.of("A+", "A-", "B+", "B-", "AB+", "AB-", "O+", "O-");
+    private static final List<String> SPECIALTIES = List.of(
+            "Cardiology", "Dermatology", "Neurology", "Oncology", "Pediatrics", "Psychiatry", "Radiology");
+    private static final List<String> HOSPITALS = List.of("Lanka Hospitals", "Asiri Central", "Durdans", "Nawaloka");
+
+    private static final int PATIENTS = 460;
+    private static final int DOCTORS = 38;
+    private static final int ADMINS = 2;
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            UserRepository.class, UserProfileRepository.class, AdminProfileRepository.class,
+            DoctorProfileRepository.class, PatientProfileRepository.class, RefreshTokenRepository.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private AdminProfileRepository adminProfileRepository;
+
+    @Autowired
+    private DoctorProfileRepository doctorProfileRepository;
+
+    @Autowired
+    private PatientProfileRepository patientProfileRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    void everyRepositoryQueryUsesAnIndex() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> seed());
+        ProxyDataSource proxy = proxyDataSource(dataSource);
+        try (Connection connection = proxy.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE users, user_profiles, refresh_token");
+        }
+
+        List<ExecutedQuery> executed = new CopyOnWriteArrayList<>();
+        QueryExecutionListener recorder = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                String method = SqlStatementContext.currentRepositoryMethod();
+                if (method == null) {
+                    return;
+                }
+                for (QueryInfo query : queryInfoList) {
+                    List<ParameterSetOperation> parameters = query.getParametersList().isEmpty()
+                            ? List.of() : List.copyOf(query.getParametersList().get(0));
+                    executed.add(new ExecutedQuery(method, query.getQuery(), parameters));
+                }
+            }
+        };
+        proxy.getProxyConfig().getQueryListener().addListener(recorder);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                runRepositoryQueries();
+                status.setRollbackOnly();
+            });
+        } finally {
+            proxy.getProxyConfig().getQueryListener().getListeners().remove(recorder);
+        }
+
+        Set<String> exercised = new TreeSet<>();
+        executed.forEach(query -> exercised.add(query.method()));
+        assertThat(exercised).as("repository methods exercised").containsAll(declaredMethods());
+
+        List<String> scans = new ArrayList<>();
+        Set<String> explained = new HashSet<>();
+        try (Connection connection = proxy.getDataSource().getConnection()) {
+            for (ExecutedQuery query : executed) {
+                if (!query.explainable() || ALLOWED_SCANS.containsKey(query.method())
+                        || !explained.add(query.method() + " " + query.sql())) {
+                    continue;
+                }
+                for (String scan : fullScans(connection, query)) {
+                    scans.add(query.method() + ": " + scan + "\n    " + query.sql());
+                }
+            }
+        }
+        assertThat(scans).as("full table scans").isEmpty();
+    }
+
+    private void seed() {
+        for (int i = 0; i < PATIENTS; i++) {
+            User user = userRepository.save(user("patient-" + i, Role.PATIENT, i));
+            PatientProfile profile = patientProfile(user)
+                    .bloodGroup(BLOOD_GROUPS.get(i % BLOOD_GROUPS.size()))
+                    .insurancePolicyNumber("POL-" + i)
+                    .medicalHistoryAccessGranted(i % 10 != 0)
+                    .twoFactorAuthenticationEnabled(i % 4 != 0)
+                    .gdprConsent(i % 20 != 0)
+                    .preferredDoctorIds(i % 5 == 0 ? List.of(preferredDoctorId(i % DOCTORS)) : null)
+                    .build();
+            profile.setMedicalConditions(i % 7 == 0 ? "asthma" : null);
+            patientProfileRepository.save(profile);
+            if (i % 3 == 0) {
+                refreshTokenRepository.save(RefreshToken.builder()
+                        .user(user).token("token-" + i).expiryDate(Instant.now().plusSeconds(600)).build());
+            }
+        }
+        for (int i = 0; i < DOCTORS; i++) {
+            User user = userRepository.save(user("doctor-" + i, Role.DOCTOR, i));
+            doctorProfileRepository.save(doctorProfile(user)
+                    .licenseNumber("LIC-" + i)
+                    .npiNumber("NPI-" + i)
+                    .specialization(SPECIALTIES.get(i % SPECIALTIES.size()))
+                    .department(SPECIALTIES.get((i + 1) % SPECIALTIES.size()))
+                    .verificationStatus(i % 3 != 0)
+                    .isAcceptingNewPatients(i % 2 == 0)
+                    .averageRating(3.0 + (i % 20) / 10.0)
+                    .languages(i % 4 == 0 ? List.of("Tamil", "English") : List.of("Sinhala", "English"))
+                    .affiliatedHospitals(List.of(HOSPITALS.get(i % HOSPITALS.size())))
+                    .build());
+        }
+        for (int i = 0; i < ADMINS; i++) {
+            User user = userRepository.save(user("admin-" + i, Role.ADMIN, i));
+            adminProfileRepository.save(adminProfile(user)
+                    .department("IT")
+                    .organizationCode("ORG-" + i)
+                    .accessLevel(i + 1)
+                    .build());
+        }
+    }
+
+    private void runRepositoryQueries() {
+        User patient = userRepository.findByUsername("patient-3").orElseThrow();
+        User doctor = userRepository.findByUsername("doctor-1").orElseThrow();
+        User admin = userRepository.findByUsername("admin-1").orElseThrow();
+
+        LocalDateTime now = LocalDateTime.now();
+        UUID missing = UUID.randomUUID();
+
+        userRepository.findByUsername("patient-3");
+        userRepository.findByEmail("patient-3@example.com");
+        userRepository.findByRole(Role.DOCTOR);
+        userRepository.findByIsActiveTrue();
+        userRepository.findByRoleAndIsActiveTrue(Role.DOCTOR);
+        userRepository.existsByEmail("patient-3@example.com");
+        userRepository.existsByUsername("patient-3");
+        userRepository.findActiveUsersByRole(Role.ADMIN);
+        userRepository.findByEmailOrUsername("doctor-1@example.com", "doctor-1");
+        userRepository.findAllWithProfileByIdIn(List.of(patient.getId(), doctor.getId()));
+        userRepository.findAllWithProfileByUsernameIn(List.of("patient-3", "doctor-1"));
+        userRepository.findRecentlySignedInIds(PageRequest.of(0, 10));
+        userRepository.findVersionsById(patient.getId());
+        userRepository.updateProfileIfVersionMatches(missing, 0L, "Name", null, null, now);
+        userRepository.activateIfVersionMatches(missing, 0L, now);
+        userRepository.lockIfVersionMatches(missing, 0L, now);
+        userRepository.findAllPatients();
+        userRepository.countPatients();
+        userRepository.findAllDoctors();
+        userRepository.countDoctors();
+        userRepository.countActiveUsers();
+
+        userProfileRepository.findByUserId(patient.getId());
+
+        adminProfileRepository.findByUserId(admin.getId());
+        adminProfileRepository.findByDepartment("IT");
+        adminProfileRepository.findByOrganizationCode("ORG-1");
+        adminProfileRepository.findByAccessLevelGreaterThanEqual(2);
+        adminProfileRepository.findByUsername("admin-1");
+        adminProfileRepository.findByAccountLockedFalse();
+
+        doctorProfileRepository.findByUserId(doctor.getId());
+        doctorProfileRepository.existsByUserId(doctor.getId());
+        doctorProfileRepository.findVersionByUserId(doctor.getId());
+        doctorProfileRepository.updateIfVersionMatches(missing, 0L, "First", null, null, null, null, null, null, null, null, 0L);
+        doctorProfileRepository.findByLicenseNumber("LIC-1");
+        doctorProfileRepository.findByNpiNumber("NPI-1");
+        doctorProfileRepository.findBySpecialization("Cardiology");
+        doctorProfileRepository.findByDepartment("Cardiology");
+        doctorProfileRepository.findByVerificationStatusTrue();
+        doctorProfileRepository.findByIsAcceptingNewPatientsTrue();
+        doctorProfileRepository.findByUsername("doctor-1");
+        doctorProfileRepository.findVerifiedDoctorsBySpecialization("Cardiology");
+        doctorProfileRepository.findVerifiedDoctorsByDepartmentSortedByRating("Cardiology");
+        doctorProfileRepository.findByLanguage("Tamil");
+        doctorProfileRepository.findByAffiliatedHospital("Durdans");
+
+        patientProfileRepository.findByUserId(patient.getId());
+        patientProfileRepository.findVersionByUserId(patient.getId());
+        patientProfileRepository.findByInsurancePolicyNumber("POL-1");
+        patientProfileRepository.findByBloodGroup("O+");
+        patientProfileRepository.findByMedicalHistoryAccessGrantedTrue();
+        patientProfileRepository.findByTwoFactorAuthenticationEnabledTrue();
+        patientProfileRepository.findByUsername("patient-3");
+        patientProfileRepository.findByEmail("patient-3@example.com");
+        patientProfileRepository.findPatientsByMedicalCondition("asthma");
+        patientProfileRepository.findPatientWithGdprConsent();
+        patientProfileRepository.findByPreferredDoctorId(preferredDoctorId(1));
+
+        refreshTokenRepository.findByToken("token-3");
+        refreshTokenRepository.findByUser(patient);
+        refreshTokenRepository.deleteByUser(patient);
+    }
+
+    private static User user(String username, Role role, int i) {
+        return UserFixtures.user(username, role)
+                .isActive(i % 25 != 0)
+                .lastLoginAt(i % 2 == 0 ? LocalDateTime.now().minusMinutes(i) : null)
+                .build();
+    }
+
+    private static UUID preferredDoctorId(int doctor) {
+        return UUID.nameUUIDFromBytes(("doctor-" + doctor).getBytes());
+    }
+
+    private static Set<String> declaredMethods() {
+        Set<String> methods = new TreeSet<>();
+        for (Class<?> repository : REPOSITORIES) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isSynthetic() && !method.isDefault()) {
+                    methods.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * EXPLAIN the statement with its original parameters and describe each table it reads in full
+     */
+    private static List<String> fullScans(Connection connection, ExecutedQuery query) throws Exception {
+        List<String> scans = new ArrayList<>();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + query.sql())) {
+            for (ParameterSetOperation parameter : query.parameters()) {
+                parameter.getMethod().invoke(explain, parameter.getArgs());
+            }
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    if ("ALL".equals(rows.getString("type"))) {
+                        scans.add("full scan of " + rows.getString("table") + " (rows=" + rows.getString("rows") + ")");
+                    }
+                }
+            }
+        }
+        return scans;
+    }
+
+    private static ProxyDataSource proxyDataSource(DataSource dataSource) {
+        DataSource current = dataSource;
+        while (!(current instanceof ProxyDataSource)) {
+            assertThat(current).as("statement proxy around %s", dataSource).isInstanceOf(DelegatingDataSource.class);
+            current = ((DelegatingDataSource) current).getTargetDataSource();
+        }
+        return (ProxyDataSource) current;
+    }
+
+    private record ExecutedQuery(String method, String sql, List<ParameterSetOperation> parameters) {
+
+        boolean explainable() {
+            String verb = sql.stripLeading().toLowerCase(Locale.ROOT);
+            return verb.startsWith("select") || verb.startsWith("update") || verb.startsWith("delete");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.medibridge.user_service.service;
+
+import com.medibridge.user_service.entity.PatientProfile;
+import com.medibridge.user_service.entity.RefreshToken;
+import com.medibridge.user_service.entity.Role;
+import com.medibridge.user_service.entity.User;
+import com.medibridge.user_service.repository.PatientProfileRepository;
+import com.medibridge.user_service.repository.RefreshTokenRepository;
+import com.medibridge.user_service.repository.UserRepository;
+import com.medibridge.user_service.support.EmbeddedMariaDbTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static com.medibridge.user_service.support.UserFixtures.patientProfile;
+import static com.medibridge.user_service.support.UserFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Soft delete restriction and archival against the Flyway schema on a real MariaDB server.
+ * A batch size of one makes the job walk the keyset cursor across batches.
+ */
+@SpringBootTest(properties = {
+        "application.archival.batch-size=1",
+        "application.archival.pause-ms=0"
+})
+class UserArchivalServiceTests extends EmbeddedMariaDbTests {
+
+    @Autowired
+    private UserArchivalService userArchivalService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PatientProfileRepository patientProfileRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void deletedUsersAreHiddenAndArchivedAfterRetention() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            patient("live", null);
+            patient("deleted-recently", now.minusDays(1));
+            patient("deleted-long-ago-1", now.minusDays(90));
+            patient("deleted-long-ago-2", now.minusDays(60));
+        });
+
+        assertThat(userRepository.findByRole(Role.PATIENT)).extracting(User::getUsername).containsExactly("live");
+        assertThat(patientProfileRepository.findAll()).hasSize(1);
+        assertThat(refreshTokenRepository.findByToken("token-deleted-recently")).isEmpty();
+        assertThat(userRepository.existsByUsername("deleted-recently")).isTrue();
+
+        assertThat(userArchivalService.archiveDeletedBefore(now.minusDays(30))).isEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForList("SELECT username FROM users_archive ORDER BY deleted_at", String.class))
+                .containsExactly("deleted-long-ago-1", "deleted-long-ago-2");
+        assertThat(jdbcTemplate.queryForList("SELECT username FROM users ORDER BY username", String.class))
+                .containsExactly("deleted-recently", "live");
+        assertThat(count("user_profiles")).isEqualTo(2);
+        assertThat(count("user_profiles_archive")).isEqualTo(2);
+        assertThat(count("user_profile_details")).isEqualTo(2);
+        assertThat(count("user_profile_details_archive")).isEqualTo(2);
+        assertThat(count("refresh_token")).isEqualTo(2);
+        assertThat(count("refresh_token_archive")).isEqualTo(2);
+
+        assertThat(userArchivalService.archiveDeletedBefore(now.minusDays(30))).isZero();
+    }
+
+    private void patient(String username, LocalDateTime deletedAt) {
+        boolean deleted = deletedAt != null;
+        User user = userRepository.save(user(username, Role.PATIENT)
+                .isDeleted(deleted)
+                .deletedAt(deletedAt)
+                .build());
+        PatientProfile profile = patientProfile(user)
+                .isDeleted(deleted)
+                .build();
+        profile.setMedicalConditions("asthma");
+        patientProfileRepository.save(profile);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user).token("token-" + username).expiryDate(Instant.now().plusSeconds(600)).build());
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
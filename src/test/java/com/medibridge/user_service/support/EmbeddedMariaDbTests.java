@@ -0,0 +1,53 @@
+package com.medibridge.user_service.support;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Base class for Spring Boot tests against a real MariaDB server (mariaDB4j) carrying the Flyway schema.
+ * Sets the properties every such test needs: MySQL dialect, no Eureka, no startup warmup, no scheduled archival.
+ * Each test class starts its own server on a free port before its context and stops it after its tests,
+ * so subclasses must keep their own @SpringBootTest properties distinct to get a context of their own.
+ */
+@TestPropertySource(properties = {
+        "eureka.client.enabled=false",
+        "application.warmup.enabled=false",
+        "application.archival.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.jakarta.persistence.database-major-version=8"
+})
+public abstract class EmbeddedMariaDbTests {
+
+    private static DB db;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws ManagedProcessException {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        // mariadbd refuses to run as root unless told to
+        if ("root".equals(System.getProperty("user.name"))) {
+            config.addArg("--user=root");
+        }
+        // The single-table user_profiles exceeds MariaDB's strict inline row size check
+        config.addArg("--innodb-strict-mode=OFF");
+        db = DB.newEmbeddedDB(config.build());
+        db.start();
+
+        registry.add("spring.datasource.url", () -> "jdbc:mysql://localhost:" + db.getConfiguration().getPort()
+                + "/medibridge_test?createDatabaseIfNotExist=true&useSSL=false&serverTimezone=UTC");
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws ManagedProcessException {
+        if (db != null) {
+            db.stop();
+        }
+    }
+}
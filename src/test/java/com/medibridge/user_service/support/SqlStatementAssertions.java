@@ -0,0 +1,63 @@
+package com.medibridge.user_service.support;
+
+import com.medibridge.user_service.observability.sql.SqlStatementContext;
+import com.medibridge.user_service.observability.sql.SqlStatementStats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Assertions for pinning the number of JDBC statements a block of code runs.
+ * Works with MockMvc because the request executes on the calling thread, e.g.
+ *
+ * <pre>
+ * SqlStatementAssertions.assertStatementCount(1, () ->
+ *         mockMvc.perform(get("/api/v1/admin/doctors")).andExpect(status().isOk()));
+ * </pre>
+ *
+ * Requires the statement proxy (application.sql-stats.enabled, on by default).
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * Run the action and return the statements it executed
+     */
+    public static SqlStatementStats capture(Action action) throws Exception {
+        SqlStatementStats stats = SqlStatementContext.open();
+        try {
+            action.run();
+        } finally {
+            SqlStatementContext.close(stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Assert the action executes exactly the expected number of statements
+     */
+    public static SqlStatementStats assertStatementCount(int expected, Action action) throws Exception {
+        SqlStatementStats stats = capture(action);
+        assertThat(stats.getStatements())
+                .as("SQL statements executed; by shape: %s", stats.getShapes())
+                .isEqualTo(expected);
+        return stats;
+    }
+
+    /**
+     * Assert the action executes at most the given number of statements
+     */
+    public static SqlStatementStats assertMaxStatementCount(int max, Action action) throws Exception {
+        SqlStatementStats stats = capture(action);
+        assertThat(stats.getStatements())
+                .as("SQL statements executed; by shape: %s", stats.getShapes())
+                .isLessThanOrEqualTo(max);
+        return stats;
+    }
+}
@@ -0,0 +1,48 @@
+package com.medibridge.user_service.support;
+
+import com.medibridge.user_service.entity.AccountStatus;
+import com.medibridge.user_service.entity.AdminProfile;
+import com.medibridge.user_service.entity.DoctorProfile;
+import com.medibridge.user_service.entity.PatientProfile;
+import com.medibridge.user_service.entity.Role;
+import com.medibridge.user_service.entity.User;
+
+/**
+ * Builders for the users and profiles database tests seed, pre-filled with the columns the schema requires.
+ * Tests add the values they are about, build and save through the repositories.
+ */
+public final class UserFixtures {
+
+    private UserFixtures() {
+    }
+
+    /**
+     * A user with email "{username}@example.com" and a {noop} password
+     */
+    public static User.UserBuilder<?, ?> user(String username, Role role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("{noop}" + username)
+                .fullName(username)
+                .role(role);
+    }
+
+    public static DoctorProfile.DoctorProfileBuilder<?, ?> doctorProfile(User user) {
+        return DoctorProfile.builder()
+                .user(user)
+                .status(AccountStatus.ACTIVE);
+    }
+
+    public static PatientProfile.PatientProfileBuilder<?, ?> patientProfile(User user) {
+        return PatientProfile.builder()
+                .user(user)
+                .status(AccountStatus.ACTIVE);
+    }
+
+    public static AdminProfile.AdminProfileBuilder<?, ?> adminProfile(User user) {
+        return AdminProfile.builder()
+                .user(user)
+                .status(AccountStatus.ACTIVE);
+    }
+}